@@ -1,15 +1,20 @@
 import controllers.GameController;
+import util.Log;
+import views.SpriteAtlas;
 import javax.swing.SwingUtilities;
 
 public class Main {
     public static void main(String[] args) {
+        // Decode all sprites in parallel while Swing starts up
+        SpriteAtlas.preload();
+
         SwingUtilities.invokeLater(() -> {
             try {
                 javax.swing.UIManager.setLookAndFeel(
                     javax.swing.UIManager.getSystemLookAndFeelClassName()
                 );
             } catch (Exception e) {
-                e.printStackTrace();
+                Log.error("Could not set the system look and feel", e);
             }
 
             GameController gameController = new GameController();
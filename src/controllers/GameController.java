@@ -1,5 +1,13 @@
     package controllers;
 
+import engine.GameEngine;
+import engine.GameEvent;
+import engine.GameEventBus;
+import util.FixedTimestep;
+import util.GameClock;
+import util.GameRandom;
+import util.InputQueue;
+import util.Log;
 import models.*;
 import views.*;
 import java.awt.event.ActionEvent;
@@ -7,7 +15,6 @@ import java.awt.event.ActionListener;
 import java.awt.event.KeyEvent;
 import java.awt.event.KeyListener;
 import java.util.List;
-import java.util.ArrayList;
 import javax.swing.JPanel;
 import javax.swing.JTextField;
 import javax.swing.JLabel;
@@ -15,78 +22,94 @@ import javax.swing.JOptionPane;
 import javax.swing.BorderFactory;
 import java.awt.GridLayout;
 import javax.swing.JComboBox;
-import java.util.Map;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class GameController {
     private MainMenuView mainMenuView;
     private GameView gameView;
     private HighScoresView highScoresView;
-    private GameBoard gameBoard;
-    private Pacman pacman;
-    private Ghost[] ghosts;
+    // The game rules; the controller feeds it input in real time and shows its state
+    private GameEngine engine;
     private GameUpdateThread gameUpdateThread;
-    private int score;
-    private int lives;
-    private int level;
-    private long startTime;
-    private boolean isGameRunning;
+    private volatile boolean isGameRunning;
     private final Object gameLock = new Object();
-    private int prevPacmanX, prevPacmanY;
-    private int[] prevGhostX = new int[4];
-    private int[] prevGhostY = new int[4];
+    // Paused with P or when the game window loses focus; the game clock stands still meanwhile
+    private volatile boolean paused;
+    // The game loop parks on runnable while the game isn't running or is paused
+    private final ReentrantLock runLock = new ReentrantLock();
+    private final Condition runnable = runLock.newCondition();
     private boolean firstUpdate = true;
 
+    // Time warp: ticks per real tick interval, cycled with F4; unthrottled runs as fast as it can
+    private static final int WARP_UNTHROTTLED = 0;
+    private static final int[] WARP_FACTORS = {1, 4, 16, WARP_UNTHROTTLED};
+    private volatile int warpFactor = 1;
+
+    // Next level's board, generated in the background while the current level is played
+    private final ExecutorService levelGenerator = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "LevelGenerator");
+        t.setDaemon(true);
+        return t;
+    });
+    // Taken by the game loop, cancelled from the EDT when the game stops
+    private volatile Future<GameBoard> nextLevelBoard;
+
     private GameBoard.MazeType selectedMazeType = GameBoard.MazeType.HYBRID;
+    // Seeds every random choice of the current game, including the pre-generated boards
+    private GameRandom gameRandom;
 
-    // Power-up timer
-    private long powerUpEndTime = 0;
-    private static final long POWER_UP_DURATION_MS = 7000;
     private static final long POWER_UP_WARNING_MS = 2000; // Warning when 2 seconds left
-    private int powerUpScoreMultiplier = 1;
-    private static final int[] GHOST_SCORES = {200, 400, 800, 1600}; // Increasing scores for consecutive ghost eats
-
-    // Ghost power-up dropping system
-    private static final long GHOST_POWERUP_INTERVAL = 5000; // 5 seconds
-    private static final double GHOST_POWERUP_CHANCE = 0.25; // 25% chance
-    private Map<Ghost, Long> ghostPowerUpTimers;
-    private List<PowerUp> activePowerUps;
-
-    private int pacmanAnimFrame = 0;
-
-    private boolean pacmanIsMoving = false;
-
-    // Add invincibility state
-    private boolean pacmanInvincible = false;
-    private long invincibilityEndTime = 0;
-    private static final long INVINCIBILITY_DURATION_MS = 7000;
-
-    // Fruit bonus system
-    private Fruit currentFruit = null;
-    private int nextFruitIndex = 0;
-    private static class FruitSpawnRule {
-        int scoreThreshold;
-        Fruit.FruitType type;
-        int points;
-        FruitSpawnRule(int scoreThreshold, Fruit.FruitType type, int points) {
-            this.scoreThreshold = scoreThreshold;
-            this.type = type;
-            this.points = points;
+    // Last status bar snapshot handed to the view, only touched by the game loop
+    private HudSnapshot publishedHud;
+
+    // Status bar notices for what happened in the game. The EDT reads the engine's event bus on
+    // a timer, so the game loop only publishes; the timer stops while the game is paused.
+    private static final int NOTICE_POLL_MS = 100;
+    private static final int NOTICE_POLLS = 20; // a notice stays for 2 seconds
+    private static final String GHOST_EATEN_NOTICE = "Ghost eaten!";
+    private static final String FRUIT_EATEN_NOTICE = "Fruit eaten!";
+    private static final String LEVEL_CLEARED_NOTICE = "Level cleared!";
+    private static final String[] POWER_UP_NOTICES = new String[PowerUp.PowerUpType.values().length];
+    static {
+        for (PowerUp.PowerUpType type : PowerUp.PowerUpType.values()) {
+            POWER_UP_NOTICES[type.ordinal()] = type.name().replace('_', ' ').toLowerCase() + "!";
         }
     }
-    private static final FruitSpawnRule[] fruitRules = new FruitSpawnRule[] {
-        new FruitSpawnRule(1000, Fruit.FruitType.CHERRY, 100),
-        new FruitSpawnRule(3000, Fruit.FruitType.STRAWBERRY, 300),
-        new FruitSpawnRule(5000, Fruit.FruitType.APPLE, 500),
-        new FruitSpawnRule(7000, Fruit.FruitType.PEACH, 700)
-    };
+    private GameEventBus.Cursor gameEvents; // EDT only
+    private String notice;
+    private int noticePollsLeft;
+    private final GameEvent.Handler noticeHandler = this::onGameEvent;
+    private final javax.swing.Timer noticeTimer = new javax.swing.Timer(NOTICE_POLL_MS, e -> pollNotices());
+
+    // Board size limits; larger boards are drawn through the canvas camera
+    private static final int MIN_BOARD_SIZE = 10;
+    private static final int MAX_BOARD_SIZE = 2000;
+    private static final int MAX_TABLE_BOARD_SIZE = 100;
 
     public static GameController instance;
 
-    private Pacman.Direction desiredDirection = Pacman.Direction.RIGHT;
+    // Key presses from the EDT to the game loop, drained at the start of every tick
+    private static final Pacman.Direction[] DIRECTIONS = Pacman.Direction.values();
+    private final InputQueue input = new InputQueue(64);
+
+    // Tick, paint and EDT latency statistics shown by the F3 overlay
+    private final FrameStats frameStats = new FrameStats();
+
+    // Paces the game loop, key press timestamps and the renderer's interpolation
+    private final GameClock.Pausable clock;
 
     public GameController() {
+        this(GameClock.SYSTEM);
+    }
+
+    public GameController(GameClock clock) {
+        this.clock = new GameClock.Pausable(clock);
         instance = this;
         // Initialize views
         mainMenuView = new MainMenuView();
@@ -102,9 +125,6 @@ public class GameController {
 
         // Show main menu initially
         mainMenuView.setVisible(true);
-
-        this.ghostPowerUpTimers = new HashMap<>();
-        this.activePowerUps = new ArrayList<>();
     }
 
     private void startNewGame() {
@@ -117,7 +137,7 @@ public class GameController {
         firstUpdate = true;
 
         // Show board size selection dialog
-        JPanel panel = new JPanel(new GridLayout(3, 2, 5, 5));
+        JPanel panel = new JPanel(new GridLayout(5, 2, 5, 5));
         panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
         
         JTextField rowsField = new JTextField("20");
@@ -134,6 +154,18 @@ public class GameController {
         panel.add(new JLabel("Maze Type:"));
         panel.add(mazeTypeBox);
 
+        // Renderer selection, defaults to -Dpacman.renderer=table|canvas|smooth
+        String[] renderers = {"Table (Swing)", "Canvas (active rendering)", "Canvas (smooth motion)"};
+        JComboBox<String> rendererBox = new JComboBox<>(renderers);
+        rendererBox.setSelectedIndex(defaultRenderMode().ordinal());
+        panel.add(new JLabel("Renderer:"));
+        panel.add(rendererBox);
+
+        // Seed to replay a game with, defaults to -Dpacman.seed; empty picks a random one
+        JTextField seedField = new JTextField(System.getProperty("pacman.seed", ""));
+        panel.add(new JLabel("Seed (optional):"));
+        panel.add(seedField);
+
         int result = JOptionPane.showConfirmDialog(
             null,
             panel,
@@ -147,15 +179,28 @@ public class GameController {
             return;
         }
 
-        // Parse board size
+        // Parse board size and seed
         int rows, cols;
         try {
+            String seedText = seedField.getText().trim();
+            gameRandom = seedText.isEmpty() ? GameRandom.randomSeed() : new GameRandom(Long.parseLong(seedText));
             rows = Integer.parseInt(rowsField.getText());
             cols = Integer.parseInt(colsField.getText());
-            if (rows < 10 || cols < 10 || rows > 100 || cols > 100) {
+            if (rows < MIN_BOARD_SIZE || cols < MIN_BOARD_SIZE || rows > MAX_BOARD_SIZE || cols > MAX_BOARD_SIZE) {
                 JOptionPane.showMessageDialog(
                     null,
-                    "Board size must be between 10 and 100",
+                    "Board size must be between " + MIN_BOARD_SIZE + " and " + MAX_BOARD_SIZE,
+                    "Invalid Size",
+                    JOptionPane.ERROR_MESSAGE
+                );
+                mainMenuView.setVisible(true);
+                return;
+            }
+            // The Swing table has one component cell per board cell and no camera
+            if ((rows > MAX_TABLE_BOARD_SIZE || cols > MAX_TABLE_BOARD_SIZE) && rendererBox.getSelectedIndex() == GameView.RenderMode.TABLE.ordinal()) {
+                JOptionPane.showMessageDialog(
+                    null,
+                    "Boards larger than " + MAX_TABLE_BOARD_SIZE + " need a canvas renderer",
                     "Invalid Size",
                     JOptionPane.ERROR_MESSAGE
                 );
@@ -183,56 +228,76 @@ public class GameController {
             default: selectedMazeType = GameBoard.MazeType.HYBRID;
         }
 
-        // Initialize game state
-        score = 0;
-        lives = 3;
-        level = 1;
-        isGameRunning = true;
-
-        // Create game board with selected size and maze type
-        gameBoard = new GameBoard(rows, cols, selectedMazeType);
-        
-        // Find Pacman spawn position
-        int[] pacmanPos = findSpawnPosition(GameBoard.Cell.PACMAN_SPAWN);
-        pacman = new Pacman(pacmanPos[0], pacmanPos[1]);
-
-        // Determine number of ghosts based on map size
-        int ghostCount;
-        if (rows <= 10 || cols <= 10) {
-            ghostCount = 1;
-        } else if (rows <= 20 || cols <= 20) {
-            ghostCount = 2;
-        } else if (rows <= 30 || cols <= 30) {
-            ghostCount = 3;
-        } else {
-            ghostCount = 4;
-        }
-
-        // Find ghost spawn positions (anywhere on the board)
-        List<int[]> ghostSpawns = findGhostSpawnPositions();
-        ghosts = new Ghost[ghostCount];
-        Ghost.GhostType[] ghostTypes = {
-            Ghost.GhostType.RED,
-            Ghost.GhostType.PINK,
-            Ghost.GhostType.BLUE,
-            Ghost.GhostType.ORANGE
-        };
-        for (int i = 0; i < ghostCount && i < ghostSpawns.size(); i++) {
-            int[] ghostPos = ghostSpawns.get(i);
-            ghosts[i] = new Ghost(ghostPos[0], ghostPos[1], ghostTypes[i % ghostTypes.length]);
-        }
+        GameView.RenderMode renderMode = GameView.RenderMode.values()[rendererBox.getSelectedIndex()];
+
+        paused = false;
+        clock.resume();
+        setGameRunning(true);
+
+        // Create game board with selected size and maze type; later levels take the board
+        // generated in the background and start generating the one after it
+        cancelNextLevel();
+        GameBoard gameBoard = new GameBoard(rows, cols, selectedMazeType, gameRandom.maze(1));
+        pregenerateNextLevel(gameBoard, 2);
+        // -Dpacman.ghosts=<count> plays with a swarm instead of the usual 1 to 4 ghosts
+        int ghostCount = Integer.getInteger("pacman.ghosts", GameEngine.defaultGhostCount(rows, cols));
+        engine = new GameEngine(gameBoard, gameRandom, level -> {
+            GameBoard next = takeNextLevelBoard(level);
+            pregenerateNextLevel(next, level + 1);
+            return next;
+        }, ghostCount);
+        gameEvents = engine.getEvents().subscribe();
+        notice = null;
+        noticePollsLeft = 0;
+        engine.setTurnBufferTicks(Integer.getInteger("pacman.turnBuffer", GameEngine.DEFAULT_TURN_BUFFER_TICKS));
+        engine.setListener(new GameEngine.Listener() {
+            @Override
+            public void onPacmanDeath(int x, int y) {
+                setGameRunning(false);
+                // Play death animation and respawn after animation finishes
+                gameView.playPacmanDeathAnimation(x, y, () -> {
+                    synchronized (gameLock) {
+                        engine.respawn();
+                    }
+                    setGameRunning(true);
+                });
+            }
 
-        // Initialize ghost power-up timers
-        ghostPowerUpTimers.clear();
-        activePowerUps.clear();
-        for (Ghost ghost : ghosts) {
-            ghostPowerUpTimers.put(ghost, System.currentTimeMillis());
-        }
+            @Override
+            public void onLevelStarted(int level) {
+                // Show the whole new board
+                firstUpdate = true;
+            }
+        });
 
         // Create and show game view
-        gameView = new GameView(gameBoard.getRows(), gameBoard.getCols());
+        gameView = new GameView(gameBoard.getRows(), gameBoard.getCols(), renderMode, clock);
+        warpFactor = 1;
+        updateTitle();
+        publishedHud = null;
+        gameView.setFrameStats(frameStats);
+        noticeTimer.start();
         gameView.setVisible(true);
 
+        // Switching to another window or minimizing pauses the game; P resumes it
+        java.awt.event.WindowAdapter pauseOnFocusLoss = new java.awt.event.WindowAdapter() {
+            @Override
+            public void windowLostFocus(java.awt.event.WindowEvent e) {
+                pauseIfShown(e);
+            }
+
+            @Override
+            public void windowIconified(java.awt.event.WindowEvent e) {
+                pauseIfShown(e);
+            }
+
+            private void pauseIfShown(java.awt.event.WindowEvent e) {
+                if (e.getWindow() == gameView && gameView.isDisplayable()) setPaused(true);
+            }
+        };
+        gameView.addWindowFocusListener(pauseOnFocusLoss);
+        gameView.addWindowListener(pauseOnFocusLoss);
+
         // Add key listener for Pacman movement
         gameView.addKeyListener(new KeyListener() {
             @Override
@@ -240,22 +305,33 @@ public class GameController {
 
             @Override
             public void keyPressed(KeyEvent e) {
-                if (!isGameRunning) return;
-                synchronized (gameLock) {
-                    switch (e.getKeyCode()) {
-                        case KeyEvent.VK_UP:
-                            desiredDirection = Pacman.Direction.UP;
-                            break;
-                        case KeyEvent.VK_DOWN:
-                            desiredDirection = Pacman.Direction.DOWN;
-                            break;
-                        case KeyEvent.VK_LEFT:
-                            desiredDirection = Pacman.Direction.LEFT;
-                            break;
-                        case KeyEvent.VK_RIGHT:
-                            desiredDirection = Pacman.Direction.RIGHT;
-                            break;
-                    }
+                if (e.getKeyCode() == KeyEvent.VK_F4) {
+                    cycleWarp();
+                    return;
+                }
+                if (e.getKeyCode() == KeyEvent.VK_P) {
+                    setPaused(!paused);
+                    return;
+                }
+                if (!isGameRunning || paused) return;
+                // Queued for the game loop; the EDT never waits for a tick
+                Pacman.Direction direction = null;
+                switch (e.getKeyCode()) {
+                    case KeyEvent.VK_UP:
+                        direction = Pacman.Direction.UP;
+                        break;
+                    case KeyEvent.VK_DOWN:
+                        direction = Pacman.Direction.DOWN;
+                        break;
+                    case KeyEvent.VK_LEFT:
+                        direction = Pacman.Direction.LEFT;
+                        break;
+                    case KeyEvent.VK_RIGHT:
+                        direction = Pacman.Direction.RIGHT;
+                        break;
+                }
+                if (direction != null) {
+                    input.offer(direction.ordinal(), clock.nanoTime());
                 }
             }
 
@@ -263,40 +339,115 @@ public class GameController {
             public void keyReleased(KeyEvent e) {}
         });
 
-        // Start game timer
-        startTime = System.currentTimeMillis();
+        input.clear(); // No loop is running, so nothing else reads the queue
         startGameLoop();
+    }
 
-        currentFruit = null;
-        nextFruitIndex = 0;
-        gameView.setFruit(null);
+    private void setGameRunning(boolean running) {
+        runLock.lock();
+        try {
+            isGameRunning = running;
+            runnable.signalAll();
+        } finally {
+            runLock.unlock();
+        }
+    }
 
-        desiredDirection = Pacman.Direction.RIGHT;
+    // Called on the EDT
+    private void setPaused(boolean pause) {
+        if (pause == paused) return;
+        runLock.lock();
+        try {
+            paused = pause;
+            if (pause) clock.pause();
+            else clock.resume();
+            runnable.signalAll();
+        } finally {
+            runLock.unlock();
+        }
+        gameView.setPaused(pause);
+        if (pause) noticeTimer.stop();
+        else noticeTimer.start();
+        updateTitle();
     }
 
-    private int[] findSpawnPosition(GameBoard.Cell spawnType) {
-        for (int i = 0; i < gameBoard.getRows(); i++) {
-            for (int j = 0; j < gameBoard.getCols(); j++) {
-                if (gameBoard.getCell(j, i) == spawnType) {
-                    return new int[]{j, i};
-                }
+    // Parks the game loop until the game runs and isn't paused; false if interrupted
+    private boolean awaitRunnable() {
+        runLock.lock();
+        try {
+            while (!isGameRunning || paused) {
+                runnable.await();
             }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            runLock.unlock();
         }
-        // Fallback to random position if spawn not found
-        return gameBoard.generateRandomValidPosition();
     }
 
-    // Find all positions marked as GHOST_SPAWN anywhere on the board
-    private List<int[]> findGhostSpawnPositions() {
-        List<int[]> positions = new ArrayList<>();
-        for (int y = 0; y < gameBoard.getRows(); y++) {
-            for (int x = 0; x < gameBoard.getCols(); x++) {
-                if (gameBoard.getCell(x, y) == GameBoard.Cell.GHOST_SPAWN) {
-                    positions.add(new int[]{x, y});
-                }
+    private void cycleWarp() {
+        int next = 0;
+        for (int i = 0; i < WARP_FACTORS.length; i++) {
+            if (WARP_FACTORS[i] == warpFactor) next = (i + 1) % WARP_FACTORS.length;
+        }
+        warpFactor = WARP_FACTORS[next];
+        updateTitle();
+    }
+
+    // The window title shows the seed, the speed when warping and whether the game is paused
+    private void updateTitle() {
+        String warp = warpFactor == 1 ? "" : warpFactor == WARP_UNTHROTTLED ? ", unthrottled" : ", " + warpFactor + "x";
+        String pause = paused ? ", paused - press P" : "";
+        gameView.setTitle("Pacman - Game (seed " + gameRandom.getSeed() + warp + pause + ")");
+    }
+
+    private static GameView.RenderMode defaultRenderMode() {
+        String renderer = System.getProperty("pacman.renderer", "table");
+        if ("canvas".equalsIgnoreCase(renderer)) return GameView.RenderMode.CANVAS;
+        if ("smooth".equalsIgnoreCase(renderer)) return GameView.RenderMode.INTERPOLATED_CANVAS;
+        return GameView.RenderMode.TABLE;
+    }
+
+    // Starts building the next level's board in the background while this one is played
+    private void pregenerateNextLevel(GameBoard current, int level) {
+        final int rows = current.getRows();
+        final int cols = current.getCols();
+        final GameBoard.MazeType mazeType = selectedMazeType;
+        final GameRandom random = gameRandom;
+        nextLevelBoard = levelGenerator.submit(() -> {
+            GameBoard board = new GameBoard(rows, cols, mazeType, random.maze(level));
+            board.getGhostSpawnPositions(); // Warm the spawn cache off the game thread too
+            return board;
+        });
+    }
+
+    // The pre-generated board for the given level, normally ready long before the level is cleared
+    private GameBoard takeNextLevelBoard(int level) {
+        Future<GameBoard> pending = nextLevelBoard;
+        nextLevelBoard = null;
+        if (pending != null) {
+            try {
+                return pending.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                Log.error("Generating the next level failed", e.getCause());
+            } catch (CancellationException e) {
+                // The game is being stopped; build the board here rather than kill the loop
             }
         }
-        return positions;
+        GameBoard current = engine.getBoard();
+        return new GameBoard(current.getRows(), current.getCols(), selectedMazeType, gameRandom.maze(level));
+    }
+
+    private void cancelNextLevel() {
+        Future<GameBoard> pending = nextLevelBoard;
+        nextLevelBoard = null;
+        if (pending != null) {
+            pending.cancel(true);
+        }
     }
 
     private void startGameLoop() {
@@ -305,523 +456,178 @@ public class GameController {
     }
 
     private class GameUpdateThread extends Thread {
-        private static final long UPDATE_INTERVAL = 100; // 100ms between updates
+        private static final long UPDATE_INTERVAL = GameEngine.TICK_MS; // 100ms between updates at 1x
+        // Ticks run back to back to make up for a late wake-up; anything beyond is skipped
+        private static final int MAX_CATCH_UP_TICKS = 5;
+        // Unthrottled warp simulates for this long, then shows a frame
+        private static final long UNTHROTTLED_SLICE_NANOS = 16_000_000L;
+
+        private final FixedTimestep timestep = new FixedTimestep(UPDATE_INTERVAL * 1_000_000L, MAX_CATCH_UP_TICKS, clock.nanoTime());
+        private int appliedWarp = 1;
+        private long drainedAt;
+        // Hands queued key presses to the engine; their age counts against the turn buffer
+        private final InputQueue.Sink turnRequests = (code, pressedAt) ->
+            engine.requestTurn(DIRECTIONS[code], Math.max(0, drainedAt - pressedAt) / timestep.getStepNanos());
+
+        private void drainInput(long now) {
+            drainedAt = now;
+            input.drain(turnRequests);
+        }
 
         @Override
         public void run() {
+            frameStats.setTimestep(timestep);
             while (true) {
-                long startUpdate = System.currentTimeMillis();
-
-                if (!isGameRunning) {
-                    try {
-                        Thread.sleep(UPDATE_INTERVAL);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
+                if (!isGameRunning || paused) {
+                    // Parked without a timeout: an idle or paused game uses no CPU
+                    if (!awaitRunnable()) break;
+                    // Don't catch up on the time spent waiting, e.g. for the death animation
+                    timestep.reset(clock.nanoTime());
                     continue;
                 }
 
-                synchronized (gameLock) {
-                    // Update game state
-                    updateGameState();
-
-                    // Check for game over conditions
-                    if (lives <= 0) {
-                        gameOver();
-                        break;
-                    }
-                }
-
-                // Calculate sleep time to maintain consistent update interval
-                long updateTime = System.currentTimeMillis() - startUpdate;
-                long sleepTime = Math.max(0, UPDATE_INTERVAL - updateTime);
-
-                try {
-                    Thread.sleep(sleepTime);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
+                int warp = warpFactor;
+                if (warp != appliedWarp) {
+                    appliedWarp = warp;
+                    int speed = warp == WARP_UNTHROTTLED ? 1 : warp;
+                    timestep.setStep(UPDATE_INTERVAL * 1_000_000L / speed, MAX_CATCH_UP_TICKS * speed, clock.nanoTime());
                 }
-            }
-        }
-    }
 
-    private void updateGameState() {
-        long currentTime = System.currentTimeMillis();
-
-        // Track previous positions
-        int oldPacmanX = pacman.getX();
-        int oldPacmanY = pacman.getY();
-        prevPacmanX = oldPacmanX;
-        prevPacmanY = oldPacmanY;
-        for (int i = 0; i < ghosts.length; i++) {
-            if (ghosts[i] != null) {
-                prevGhostX[i] = ghosts[i].getX();
-                prevGhostY[i] = ghosts[i].getY();
-            }
-        }
-
-        // Move Pacman
-        pacmanIsMoving = false;
-        int moveSteps = (int)Math.round(pacman.getSpeed());
-        for (int step = 0; step < moveSteps; step++) {
-            // Try to turn if possible
-            if (gameBoard.isValidMoveInDirection(pacman.getX(), pacman.getY(), Ghost.Direction.valueOf(desiredDirection.name()))) {
-                pacman.setDirection(desiredDirection);
-            }
-            // Move in current direction if possible
-            if (gameBoard.isValidMoveInDirection(pacman.getX(), pacman.getY(), Ghost.Direction.valueOf(pacman.getDirection().name()))) {
-                int oldX = pacman.getX();
-                int oldY = pacman.getY();
-                pacman.move();
-                if (pacman.getX() != oldX || pacman.getY() != oldY) {
-                    pacmanIsMoving = true;
-                }
-            } else {
-                // Can't move in current or desired direction, so stop
-                break;
-            }
-        }
-
-        // Animate Pacman
-        pacmanAnimFrame = (pacmanAnimFrame + 1) % 2;
-        gameView.setPacmanAnim(pacmanAnimFrame, pacman.getDirection(), pacmanIsMoving);
-
-        // Move ghosts and check for power-up drops
-        for (int i = 0; i < ghosts.length; i++) {
-            Ghost ghost = ghosts[i];
-            if (ghost == null) continue;
-
-            // Handle returning ghosts
-            if (ghost.isReturning()) {
-                int[] base = getGhostBaseDoor();
-                java.util.List<int[]> path = findPath(ghost.getX(), ghost.getY(), base[0], base[1]);
-                if (!path.isEmpty()) {
-                    int[] next = path.get(0);
-                    int dx = next[0] - ghost.getX();
-                    int dy = next[1] - ghost.getY();
-                    if (dx == 1) ghost.setDirection(Ghost.Direction.RIGHT);
-                    else if (dx == -1) ghost.setDirection(Ghost.Direction.LEFT);
-                    else if (dy == 1) ghost.setDirection(Ghost.Direction.DOWN);
-                    else if (dy == -1) ghost.setDirection(Ghost.Direction.UP);
-                    ghost.move();
-                }
-                // If at base, respawn as normal
-                if (ghost.getX() == base[0] && ghost.getY() == base[1]) {
-                    System.out.println("Ghost at base, respawning at (" + base[0] + "," + base[1] + ")");
-                    ghost.respawn(base[0], base[1]);
-                }
-                continue;
-            }
-
-            // Check for ghost power-up drops
-            if (!ghost.isDead() && !ghost.isScared() && !ghost.isFrozen()) {
-                long lastDrop = ghostPowerUpTimers.getOrDefault(ghost, 0L);
-                if (currentTime - lastDrop >= GHOST_POWERUP_INTERVAL) {
-                    if (Math.random() < GHOST_POWERUP_CHANCE) {
-                        // Create a random power-up at ghost's position
-                        PowerUp.PowerUpType type = PowerUp.PowerUpType.values()[(int)(Math.random() * PowerUp.PowerUpType.values().length)];
-                        PowerUp powerUp = new PowerUp(ghost.getX(), ghost.getY(), type);
-                        activePowerUps.add(powerUp);
-                        System.out.println("PowerUp spawned at: " + powerUp.getX() + "," + powerUp.getY() + " type: " + powerUp.getType());
-                        gameView.setPowerUps(activePowerUps);
-                        gameBoard.addPowerUp(powerUp);
+                // Several ticks may run per wake-up (catch-up, warp); only the last one is shown
+                long batchStart = clock.nanoTime();
+                int due = warp == WARP_UNTHROTTLED ? Integer.MAX_VALUE : timestep.advance(batchStart);
+                int ran = 0;
+                boolean over = false;
+                while (ran < due && isGameRunning && !paused && !over) {
+                    synchronized (gameLock) {
+                        // Update game state; the tick's own cost is measured in real time
+                        long tickStart = System.nanoTime();
+                        drainInput(clock.nanoTime());
+                        engine.step(null);
+                        sendBoardChanges();
+                        long tickNanos = System.nanoTime() - tickStart;
+                        frameStats.recordTick(tickNanos);
+                        timestep.tickFinished(tickNanos);
+
+                        // Check for game over conditions
+                        over = engine.isGameOver();
                     }
-                    ghostPowerUpTimers.put(ghost, currentTime);
+                    ran++;
+                    if (warp == WARP_UNTHROTTLED && clock.nanoTime() - batchStart >= UNTHROTTLED_SLICE_NANOS) break;
                 }
-            }
-
-            if (isGhostInBase(ghost)) {
-                // If not at the door, force move down toward the door
-                int[] door = getGhostBaseDoor();
-                if (ghost.getX() == door[0] && ghost.getY() == door[1]) {
-                    // At the door, allow normal movement
-                } else {
-                    // Move down if possible
-                    if (gameBoard.isValidMoveInDirection(ghost.getX(), ghost.getY(), Ghost.Direction.DOWN)) {
-                        ghost.setDirection(Ghost.Direction.DOWN);
-                        ghost.move();
-                        continue;
+                if (ran > 0) {
+                    synchronized (gameLock) {
+                        updateView(warp == WARP_UNTHROTTLED ? clock.nanoTime() - batchStart : timestep.getStepNanos());
                     }
                 }
-            }
-            if (gameBoard.isValidMoveInDirection(ghost.getX(), ghost.getY(), ghost.getDirection())) {
-                ghost.move();
-            } else {
-                // Choose new direction if current one is blocked
-                List<int[]> validMoves = gameBoard.getValidMoves(ghost.getX(), ghost.getY());
-                if (!validMoves.isEmpty()) {
-                    int[] newPos = validMoves.get((int) (Math.random() * validMoves.size()));
-                    // Determine direction based on the new position
-                    if (newPos[0] > ghost.getX()) ghost.setDirection(Ghost.Direction.RIGHT);
-                    else if (newPos[0] < ghost.getX()) ghost.setDirection(Ghost.Direction.LEFT);
-                    else if (newPos[1] > ghost.getY()) ghost.setDirection(Ghost.Direction.DOWN);
-                    else if (newPos[1] < ghost.getY()) ghost.setDirection(Ghost.Direction.UP);
+                if (over) {
+                    gameOver();
+                    break;
                 }
-            }
-        }
-
-        // Update active power-ups
-        Iterator<PowerUp> iterator = activePowerUps.iterator();
-        boolean removedAny = false;
-        boolean freezeExpired = false;
-        while (iterator.hasNext()) {
-            PowerUp powerUp = iterator.next();
-            if (powerUp.shouldDespawn()) {
-                iterator.remove();
-                gameBoard.getPowerUps().remove(powerUp);
-                removedAny = true;
-                continue;
-            }
-            if (powerUp.isActive()) {
-                powerUp.updateDuration(100); // Update every 100ms
-                if (!powerUp.isActive()) {
-                    if (powerUp.getType() == PowerUp.PowerUpType.GHOST_FREEZE) {
-                        freezeExpired = true;
-                    }
-                    iterator.remove();
-                    gameBoard.getPowerUps().remove(powerUp);
-                    removedAny = true;
+                if (ran > 0 && gameView.isStatsOverlayVisible()) {
+                    frameStats.probeEdtLatency();
                 }
-            }
-        }
-        if (removedAny) {
-            gameView.setPowerUps(activePowerUps);
-        }
-        if (freezeExpired) {
-            for (Ghost ghost : ghosts) {
-                if (ghost != null) ghost.unfreeze();
-            }
-        }
 
-        // Handle power-up timer
-        if (powerUpEndTime > 0) {
-            long remainingTime = powerUpEndTime - currentTime;
-            if (remainingTime <= 0) {
-                // Power-up ended
-                for (Ghost ghost : ghosts) {
-                    if (ghost != null) ghost.becomeNormal();
+                // Sleep until the next tick is due; unthrottled only yields to the renderer
+                try {
+                    if (warp == WARP_UNTHROTTLED) {
+                        Thread.sleep(1);
+                    } else {
+                        long sleepNanos = timestep.nanosUntilNextTick(clock.nanoTime());
+                        Thread.sleep(sleepNanos / 1_000_000L, (int) (sleepNanos % 1_000_000L));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
                 }
-                powerUpEndTime = 0;
-                powerUpScoreMultiplier = 1;
-                gameView.updatePowerUpStatus(false, 0);
-            } else {
-                // Update power-up status display
-                boolean isWarning = remainingTime <= POWER_UP_WARNING_MS;
-                gameView.updatePowerUpStatus(true, (int)(remainingTime / 1000) + 1, isWarning);
-            }
-        }
-
-        // Handle invincibility timer
-        if (pacmanInvincible) {
-            long remaining = invincibilityEndTime - System.currentTimeMillis();
-            if (remaining <= 0) {
-                pacmanInvincible = false;
-                gameView.updateActivePowerUpsLabel("");
-                gameView.updatePowerUpStatus(false, 0);
-            } else {
-                boolean isWarning = remaining <= POWER_UP_WARNING_MS;
-                gameView.updatePowerUpStatus(true, (int)(remaining / 1000) + 1, isWarning);
-            }
-        }
-
-        // Fruit spawn logic
-        if (nextFruitIndex < fruitRules.length && score >= fruitRules[nextFruitIndex].scoreThreshold && currentFruit == null) {
-            // Spawn fruit at a random valid position
-            int[] pos = gameBoard.generateRandomValidPosition();
-            int fx = pos[0];
-            int fy = pos[1];
-            FruitSpawnRule rule = fruitRules[nextFruitIndex];
-            currentFruit = new Fruit(fx, fy, rule.type, rule.points);
-            gameView.setFruit(currentFruit);
-            nextFruitIndex++;
-            if (nextFruitIndex == fruitRules.length) nextFruitIndex = 0;
-        }
-        // Remove fruit if expired
-        if (currentFruit != null && currentFruit.shouldDespawn()) {
-            currentFruit = null;
-            gameView.setFruit(null);
-        }
-
-        // Check for collisions
-        checkCollisions();
-
-        // Update view
-        updateView();
-
-        if (gameBoard.getRemainingDots() == 0) {
-            level++;
-            gameBoard = new GameBoard(gameBoard.getRows(), gameBoard.getCols(), selectedMazeType);
-            // Find Pacman spawn position
-            int[] pacmanPos = findSpawnPosition(GameBoard.Cell.PACMAN_SPAWN);
-            pacman.setX(pacmanPos[0]);
-            pacman.setY(pacmanPos[1]);
-            // Find ghost spawn positions
-            List<int[]> ghostSpawns = findGhostSpawnPositions();
-            for (int i = 0; i < ghosts.length && i < ghostSpawns.size(); i++) {
-                int[] ghostPos = ghostSpawns.get(i);
-                ghosts[i].respawn(ghostPos[0], ghostPos[1]);
-            }
-            // Reset power-ups and timers
-            activePowerUps.clear();
-            ghostPowerUpTimers.clear();
-            for (Ghost ghost : ghosts) {
-                ghostPowerUpTimers.put(ghost, System.currentTimeMillis());
             }
-            gameView.setPowerUps(activePowerUps);
-            firstUpdate = true;
-            // Reset timers and power-up status
-            powerUpEndTime = 0;
-            pacmanInvincible = false;
-            gameView.updateActivePowerUpsLabel("");
-            gameView.updatePowerUpStatus(false, 0);
-            // Reset fruit sequence for new level
-            currentFruit = null;
-            nextFruitIndex = 0;
-            gameView.setFruit(null);
         }
     }
 
-    // Returns true if the ghost is inside the base (not just at the door)
-    private boolean isGhostInBase(Ghost ghost) {
-        int centerRow = gameBoard.getRows() / 2, centerCol = gameBoard.getCols() / 2;
-        int baseHeight, baseWidth;
-        if (gameBoard.getRows() <= 20 && gameBoard.getCols() <= 20) {
-            baseHeight = 3;
-            baseWidth = 3;
+    // Queues this tick's board changes for the renderer; called after every tick, shown or not
+    private void sendBoardChanges() {
+        FrameChannel frames = gameView.getFrameChannel();
+        GameBoard gameBoard = engine.getBoard();
+        Pacman pacman = engine.getPacman();
+        int prevPacmanX = engine.getPrevPacmanX(), prevPacmanY = engine.getPrevPacmanY();
+        if (firstUpdate) {
+            // On first update, show the whole board
+            frames.setBoard(gameBoard.getBoard());
+            firstUpdate = false;
         } else {
-            baseHeight = 3;
-            baseWidth = 5;
+            // Only send changed cells: Pacman eats whatever is on the cells he walks over.
+            // Moving entities are repainted from the snapshot's positions.
+            frames.cellChanged(prevPacmanX, prevPacmanY, gameBoard.getCell(prevPacmanX, prevPacmanY));
+            frames.cellChanged(pacman.getX(), pacman.getY(), gameBoard.getCell(pacman.getX(), pacman.getY()));
         }
-        int baseTop = centerRow - baseHeight / 2, baseLeft = centerCol - baseWidth / 2;
-        int x = ghost.getX(), y = ghost.getY();
-        int doorY = baseTop + baseHeight - 1;
-        int doorX = baseLeft + baseWidth / 2;
-        return (y >= baseTop + 1 && y < baseTop + baseHeight - 1 && x >= baseLeft + 1 && x < baseLeft + baseWidth - 1)
-            || (y == doorY && x == doorX);
     }
 
-    // Returns the coordinates of the door of the ghost base
-    private int[] getGhostBaseDoor() {
-        int centerRow = gameBoard.getRows() / 2, centerCol = gameBoard.getCols() / 2;
-        int baseHeight, baseWidth;
-        if (gameBoard.getRows() <= 20 && gameBoard.getCols() <= 20) {
-            baseHeight = 3;
-            baseWidth = 3;
-        } else {
-            baseHeight = 3;
-            baseWidth = 5;
-        }
-        int baseTop = centerRow - baseHeight / 2, baseLeft = centerCol - baseWidth / 2;
-        int doorY = baseTop + baseHeight - 1;
-        int doorX = baseLeft + baseWidth / 2;
-        return new int[]{doorX, doorY};
+    // Hands the current state to the renderer as a snapshot; the view never reads the live models.
+    // frameIntervalNanos is the expected time until the next frame, for interpolation.
+    private void updateView(long frameIntervalNanos) {
+        FrameChannel frames = gameView.getFrameChannel();
+        Pacman pacman = engine.getPacman();
+        int prevPacmanX = engine.getPrevPacmanX(), prevPacmanY = engine.getPrevPacmanY();
+        frames.beginFrame().capture(pacman, engine.isPacmanMoving(), prevPacmanX, prevPacmanY,
+            engine.isPacmanDying() ? null : engine.getGhosts(), engine.getActivePowerUps(), engine.getFruit(), frameIntervalNanos);
+        gameView.publishFrame();
+
+        // Status bar, once per tick after power-up durations and expirations were handled
+        publishHud();
     }
 
-    private void checkCollisions() {
-        // Check for dot collection
-        if (gameBoard.getCell(pacman.getX(), pacman.getY()) == GameBoard.Cell.DOT) {
-            score += 10;
-            gameBoard.setCell(pacman.getX(), pacman.getY(), GameBoard.Cell.EMPTY);
-            gameBoard.collectDot(pacman.getX(), pacman.getY());
-        }
-        // Check for power dot collection
-        else if (gameBoard.getCell(pacman.getX(), pacman.getY()) == GameBoard.Cell.POWER_DOT) {
-            score += 50;
-            gameBoard.setCell(pacman.getX(), pacman.getY(), GameBoard.Cell.EMPTY);
-            gameBoard.collectDot(pacman.getX(), pacman.getY());
-            // Power-up effect: set all ghosts to SCARED
-            for (Ghost ghost : ghosts) {
-                if (ghost != null) ghost.becomeScared();
-            }
-            powerUpEndTime = System.currentTimeMillis() + POWER_UP_DURATION_MS;
-            powerUpScoreMultiplier = 1; // Reset multiplier when new power-up is collected
-        }
-
-        // Check for power-up collection
-        boolean collected = false;
-        for (PowerUp powerUp : activePowerUps) {
-            if (!powerUp.isActive() && pacman.getX() == powerUp.getX() && pacman.getY() == powerUp.getY()) {
-                powerUp.activate();
-                applyPowerUpEffect(powerUp);
-                collected = true;
-                break;
-            }
-        }
-        if (collected) {
-            gameView.setPowerUps(activePowerUps);
-        }
-
-        // Check for ghost collisions (same cell)
-        for (int i = 0; i < ghosts.length; i++) {
-            Ghost ghost = ghosts[i];
-            if (ghost == null) continue;
-            if (ghost.isReturning()) continue; // Ignore returning ghosts
-            if (pacman.getX() == ghost.getX() && pacman.getY() == ghost.getY()) {
-                if (pacmanInvincible) {
-                    // Ignore collision
-                    continue;
-                }
-                if (ghost.isScared()) {
-                    // Set ghost to RETURNING state
-                    ghost.becomeReturning();
-                    powerUpScoreMultiplier = Math.min(powerUpScoreMultiplier + 1, GHOST_SCORES.length);
-                } else {
-                    handlePacmanDeath();
-                    break;
-                }
-            }
-        }
-        // Check for position swaps (Pacman and ghost swapped places in one tick)
-        for (int i = 0; i < ghosts.length; i++) {
-            Ghost ghost = ghosts[i];
-            if (ghost == null) continue;
-            if (ghost.isReturning()) continue; // Ignore returning ghosts
-            if (pacman.getX() == prevGhostX[i] && pacman.getY() == prevGhostY[i] &&
-                prevPacmanX == ghost.getX() && prevPacmanY == ghost.getY()) {
-                if (pacmanInvincible) {
-                    // Ignore collision
-                    continue;
-                }
-                if (ghost.isScared()) {
-                    int ghostScore = GHOST_SCORES[Math.min(powerUpScoreMultiplier - 1, GHOST_SCORES.length - 1)];
-                    score += ghostScore;
-                    powerUpScoreMultiplier = Math.min(powerUpScoreMultiplier + 1, GHOST_SCORES.length);
-                    ghost.becomeReturning();
-                } else {
-                    handlePacmanDeath();
-                    break;
-                }
-            }
+    // Runs on the EDT: shows the latest event worth telling the player about, clears it when it is old
+    private void pollNotices() {
+        String shown = notice;
+        if (noticePollsLeft > 0 && --noticePollsLeft == 0) {
+            notice = null;
         }
-
-        // Check for fruit collection
-        if (currentFruit != null && pacman.getX() == currentFruit.getX() && pacman.getY() == currentFruit.getY()) {
-            score += currentFruit.getPoints();
-            // Optionally: show a message or play a sound
-            currentFruit = null;
-            gameView.setFruit(null);
+        gameEvents.drain(noticeHandler);
+        if (notice != shown) {
+            gameView.showNotice(notice);
         }
     }
 
-    private void applyPowerUpEffect(PowerUp powerUp) {
-        switch (powerUp.getType()) {
-            case SPEED_BOOST:
-                System.err.println("Speed boost");
-                break;
-            case GHOST_SCARE:
-                for (Ghost ghost : ghosts) {
-                    if (ghost != null) ghost.becomeScared();
-                }
-                powerUpEndTime = System.currentTimeMillis() + POWER_UP_DURATION_MS;
-                break;
-            case EXTRA_LIFE:
-                lives++;
-                gameView.updateLives(lives);
-                break;
-            case SCORE_MULTIPLIER:
-                powerUpScoreMultiplier = 2;
-                break;
-            case GHOST_FREEZE:
-                for (Ghost ghost : ghosts) {
-                    if (ghost != null) ghost.freeze();
-                }
-                break;
-            case INVINCIBILITY:
-                pacmanInvincible = true;
-                invincibilityEndTime = System.currentTimeMillis() + INVINCIBILITY_DURATION_MS;
-                break;
+    private void onGameEvent(GameEvent event, long tick, int x, int y, int value) {
+        switch (event) {
+            case GHOST_EATEN: notice = GHOST_EATEN_NOTICE; break;
+            case FRUIT_EATEN: notice = FRUIT_EATEN_NOTICE; break;
+            case POWER_UP_COLLECTED: notice = POWER_UP_NOTICES[value]; break;
+            case LEVEL_CLEARED: notice = LEVEL_CLEARED_NOTICE; break;
+            default: return;
         }
+        noticePollsLeft = NOTICE_POLLS;
     }
 
-    // Handles Pacman death animation and respawn
-    private void handlePacmanDeath() {
-        lives--;
-        isGameRunning = false;
-        // Hide ghosts
-        Ghost[] oldGhosts = ghosts.clone();
-        ghosts = new Ghost[ghosts.length];
-        gameView.setGhosts(ghosts);
-        gameView.repaint();
-        // Play death animation and respawn after animation finishes
-        gameView.playPacmanDeathAnimation(pacman.getX(), pacman.getY(), () -> {
-            // Respawn Pacman
-            int[] pacmanPos = gameBoard.generateRandomValidPosition();
-            pacman.setX(pacmanPos[0]);
-            pacman.setY(pacmanPos[1]);
-            // Respawn ghosts
-            List<int[]> ghostSpawns = findGhostSpawnPositions();
-            for (int i = 0; i < ghosts.length && i < ghostSpawns.size(); i++) {
-                int[] ghostPos = ghostSpawns.get(i);
-                oldGhosts[i].respawn(ghostPos[0], ghostPos[1]);
-            }
-            ghosts = oldGhosts;
-            gameView.setGhosts(ghosts);
-            isGameRunning = true;
-        });
-    }
-
-    private void updateView() {
-        // Update score, lives, and time
-        gameView.updateScore(score);
-        gameView.updateLives(lives);
-        gameView.updateTime((System.currentTimeMillis() - startTime) / 1000);
-        gameView.updateLevel(level);
-
-        // Update Pacman and ghosts in the view
-        gameView.setPacman(pacman);
-        gameView.setGhosts(ghosts);
-
-        GameView.GameBoardModel boardModel = gameView.getBoardModel();
-        if (firstUpdate) {
-            // On first update, update the whole board
-            for (int i = 0; i < gameBoard.getRows(); i++) {
-                for (int j = 0; j < gameBoard.getCols(); j++) {
-                    boardModel.setCell(i, j, gameBoard.getCell(j, i));
-                }
-            }
-            firstUpdate = false;
-        } else {
-            // Only update changed cells
-            // Pacman
-            boardModel.setCell(prevPacmanY, prevPacmanX, gameBoard.getCell(prevPacmanX, prevPacmanY));
-            boardModel.setCell(pacman.getY(), pacman.getX(), gameBoard.getCell(pacman.getX(), pacman.getY()));
-            // Ghosts
-            for (int i = 0; i < ghosts.length; i++) {
-                if (ghosts[i] == null) continue;
-                boardModel.setCell(prevGhostY[i], prevGhostX[i], gameBoard.getCell(prevGhostX[i], prevGhostY[i]));
-                boardModel.setCell(ghosts[i].getY(), ghosts[i].getX(), gameBoard.getCell(ghosts[i].getX(), ghosts[i].getY()));
-            }
-        }
-
-        // After updating power-up durations and handling expirations, update the label
-        StringBuilder activePowerUpsText = new StringBuilder("Active: ");
-        boolean anyActive = false;
-        for (PowerUp powerUp : activePowerUps) {
-            if (powerUp.isActive()) {
-                PowerUp.PowerUpType type = powerUp.getType();
-                if (type == PowerUp.PowerUpType.EXTRA_LIFE || type == PowerUp.PowerUpType.SPEED_BOOST) continue;
-                activePowerUpsText.append(type.name().replace('_', ' ').toLowerCase()).append(", ");
-                anyActive = true;
-            }
-        }
-        if (pacmanInvincible) {
-            activePowerUpsText.append("invincibility, ");
-            anyActive = true;
-        }
-        if (anyActive) {
-            // Remove trailing comma and space
-            if (activePowerUpsText.length() > 8)
-                activePowerUpsText.setLength(activePowerUpsText.length() - 2);
-            gameView.updateActivePowerUpsLabel(activePowerUpsText.toString());
-        } else {
-            gameView.updateActivePowerUpsLabel("");
+    // Publishes the status bar values to the view; nothing is allocated or posted to the EDT
+    // when they are the same as in the last published snapshot
+    private void publishHud() {
+        // Game time follows the simulation, so it runs faster under warp and stops while paused
+        long timeSeconds = engine.getTimeMs() / 1000;
+        long remaining = engine.getPowerUpRemainingMs();
+        int powerUpSeconds = remaining > 0 ? (int)(remaining / 1000) + 1 : 0;
+        boolean powerUpWarning = remaining > 0 && remaining <= POWER_UP_WARNING_MS;
+        int active = 0;
+        List<PowerUp> activePowerUps = engine.getActivePowerUps();
+        for (int i = 0; i < activePowerUps.size(); i++) {
+            PowerUp powerUp = activePowerUps.get(i);
+            if (!powerUp.isActive()) continue;
+            PowerUp.PowerUpType type = powerUp.getType();
+            if (type == PowerUp.PowerUpType.EXTRA_LIFE || type == PowerUp.PowerUpType.SPEED_BOOST) continue;
+            active |= HudSnapshot.powerUpBit(type);
+        }
+        int score = engine.getScore(), lives = engine.getLives(), level = engine.getLevel();
+        boolean invincible = engine.isPacmanInvincible();
+        if (publishedHud != null && publishedHud.matches(score, lives, timeSeconds, level, powerUpSeconds, powerUpWarning, active, invincible)) {
+            return;
         }
+        publishedHud = new HudSnapshot(score, lives, timeSeconds, level, powerUpSeconds, powerUpWarning, active, invincible);
+        gameView.publishHud(publishedHud);
     }
 
     private void gameOver() {
-        isGameRunning = false;
+        setGameRunning(false);
+        noticeTimer.stop();
         gameView.dispose();
         // Prompt for nickname and ensure uniqueness
         String nickname;
@@ -841,7 +647,7 @@ public class GameController {
             }
         } while (highScoresView.playerNameExists(nickname));
         // Add score to high scores
-        highScoresView.addScore(1, nickname, score, level, 
+        highScoresView.addScore(1, nickname, engine.getScore(), engine.getLevel(), 
             new java.text.SimpleDateFormat("yyyy-MM-dd").format(new java.util.Date()));
         // Show high scores
         highScoresView.setVisible(true);
@@ -856,57 +662,25 @@ public class GameController {
         // Hide or dispose of the game view if it exists
         if (gameView != null && gameView.isVisible()) {
             gameView.dispose();
-            isGameRunning = false;
+            setGameRunning(false);
         }
         stopGameLoop();
         highScoresView.setVisible(false);
         mainMenuView.setVisible(true);
     }
 
+    public FrameStats getFrameStats() {
+        return frameStats;
+    }
+
     public static void returnToMainMenuStatic() {
         if (instance != null) {
             instance.returnToMainMenu();
         }
     }
 
-    // Helper for BFS pathfinding for returning ghosts
-    private List<int[]> findPath(int startX, int startY, int goalX, int goalY) {
-        int rows = gameBoard.getRows();
-        int cols = gameBoard.getCols();
-        boolean[][] visited = new boolean[cols][rows];
-        int[][][] prev = new int[cols][rows][2];
-        for (int x = 0; x < cols; x++) for (int y = 0; y < rows; y++) prev[x][y][0] = prev[x][y][1] = -1;
-        java.util.Queue<int[]> queue = new java.util.LinkedList<>();
-        queue.add(new int[]{startX, startY});
-        visited[startX][startY] = true;
-        int[][] dirs = {{1,0},{-1,0},{0,1},{0,-1}};
-        while (!queue.isEmpty()) {
-            int[] curr = queue.poll();
-            if (curr[0] == goalX && curr[1] == goalY) break;
-            for (int[] d : dirs) {
-                int nx = curr[0] + d[0], ny = curr[1] + d[1];
-                if (nx >= 0 && ny >= 0 && nx < cols && ny < rows && !visited[nx][ny]
-                    && gameBoard.isValidMoveInDirection(curr[0], curr[1], d[0] == 1 ? Ghost.Direction.RIGHT : d[0] == -1 ? Ghost.Direction.LEFT : d[1] == 1 ? Ghost.Direction.DOWN : Ghost.Direction.UP)) {
-                    queue.add(new int[]{nx, ny});
-                    visited[nx][ny] = true;
-                    prev[nx][ny][0] = curr[0];
-                    prev[nx][ny][1] = curr[1];
-                }
-            }
-        }
-        // Reconstruct path
-        java.util.List<int[]> path = new java.util.ArrayList<>();
-        int cx = goalX, cy = goalY;
-        if (!visited[goalX][goalY]) return path; // No path
-        while (cx != startX || cy != startY) {
-            path.add(0, new int[]{cx, cy});
-            int px = prev[cx][cy][0], py = prev[cx][cy][1];
-            cx = px; cy = py;
-        }
-        return path;
-    }
-
     private void stopGameLoop() {
+        noticeTimer.stop();
         if (gameUpdateThread != null && gameUpdateThread.isAlive()) {
             gameUpdateThread.interrupt();
             try {
@@ -916,5 +690,6 @@ public class GameController {
             }
         }
         gameUpdateThread = null;
+        cancelNextLevel();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,209 @@
+package engine;
+
+import models.GameBoard;
+import util.GameRandom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+// Plays many headless games at once to compare balance and performance across seeds and
+// board sizes. Every game owns its engine, board, random streams and input policy, so games
+// share nothing mutable and the batch scales with the number of cores.
+//
+//   java -cp out engine.BatchRunner --games 1000 --sizes 20x20,40x40 --threads 8
+public class BatchRunner {
+    private final ForkJoinPool pool;
+    private final InputPolicy.Factory policies;
+    private final long maxTicks;
+
+    // One game to play: board size, maze type, seed and number of ghosts
+    public static final class GameSpec {
+        final int rows, cols;
+        final GameBoard.MazeType mazeType;
+        final long seed;
+        final int ghosts;
+
+        public GameSpec(int rows, int cols, GameBoard.MazeType mazeType, long seed, int ghosts) {
+            this.rows = rows;
+            this.cols = cols;
+            this.mazeType = mazeType;
+            this.seed = seed;
+            this.ghosts = ghosts;
+        }
+
+        public GameSpec(int rows, int cols, GameBoard.MazeType mazeType, long seed) {
+            this(rows, cols, mazeType, seed, GameEngine.defaultGhostCount(rows, cols));
+        }
+    }
+
+    public static final class GameResult {
+        public final GameSpec spec;
+        public final int score;
+        public final int level;
+        public final long ticks;
+        public final long nanos;
+        public final boolean gameOver; // false when the game hit the tick limit
+        // Number of events of each type, indexed by GameEvent ordinal
+        final long[] eventCounts;
+
+        GameResult(GameSpec spec, int score, int level, long ticks, long nanos, boolean gameOver, long[] eventCounts) {
+            this.spec = spec;
+            this.score = score;
+            this.level = level;
+            this.ticks = ticks;
+            this.nanos = nanos;
+            this.gameOver = gameOver;
+            this.eventCounts = eventCounts;
+        }
+
+        public long count(GameEvent event) {
+            return eventCounts[event.ordinal()];
+        }
+
+        public double ticksPerSecond() {
+            return nanos > 0 ? ticks * 1e9 / nanos : 0;
+        }
+    }
+
+    public static final class Summary {
+        public final List<GameResult> results;
+        public final long wallNanos;
+
+        Summary(List<GameResult> results, long wallNanos) {
+            this.results = results;
+            this.wallNanos = wallNanos;
+        }
+
+        public long totalTicks() {
+            long total = 0;
+            for (GameResult result : results) total += result.ticks;
+            return total;
+        }
+
+        // Ticks simulated per second of wall time over all games together
+        public double throughput() {
+            return wallNanos > 0 ? totalTicks() * 1e9 / wallNanos : 0;
+        }
+
+        public double average(GameEvent event) {
+            long total = 0;
+            for (GameResult result : results) total += result.count(event);
+            return results.isEmpty() ? 0 : (double) total / results.size();
+        }
+
+        @Override
+        public String toString() {
+            int games = results.size();
+            if (games == 0) return "No games played";
+            long minScore = Long.MAX_VALUE, maxScore = 0, scoreSum = 0, levelSum = 0, maxLevel = 0, finished = 0;
+            double rateSum = 0;
+            for (GameResult result : results) {
+                minScore = Math.min(minScore, result.score);
+                maxScore = Math.max(maxScore, result.score);
+                scoreSum += result.score;
+                levelSum += result.level;
+                maxLevel = Math.max(maxLevel, result.level);
+                rateSum += result.ticksPerSecond();
+                if (result.gameOver) finished++;
+            }
+            return String.format(
+                "Games: %d (%d game over, %d hit the tick limit) in %.2f s%n"
+                + "Score: avg %.1f, min %d, max %d%n"
+                + "Level: avg %.2f, max %d%n"
+                + "Ticks survived: avg %.1f%n"
+                + "Per game: %.1f ghosts eaten, %.1f power-ups collected, %.1f fruit eaten, %.1f deaths%n"
+                + "Ticks/s: %.0f per game, %.0f overall",
+                games, finished, games - finished, wallNanos / 1e9,
+                (double) scoreSum / games, minScore, maxScore,
+                (double) levelSum / games, maxLevel,
+                (double) totalTicks() / games,
+                average(GameEvent.GHOST_EATEN), average(GameEvent.POWER_UP_COLLECTED),
+                average(GameEvent.FRUIT_EATEN), average(GameEvent.PACMAN_DIED),
+                rateSum / games, throughput());
+        }
+    }
+
+    public BatchRunner(int threads, InputPolicy.Factory policies, long maxTicks) {
+        this.pool = new ForkJoinPool(threads);
+        this.policies = policies;
+        this.maxTicks = maxTicks;
+    }
+
+    public Summary run(List<GameSpec> specs) throws InterruptedException {
+        long start = System.nanoTime();
+        List<GameResult> results;
+        try {
+            results = pool.submit(() -> specs.parallelStream().map(this::play).collect(Collectors.toList())).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        }
+        return new Summary(results, System.nanoTime() - start);
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // Plays one game to game over or the tick limit; deaths respawn immediately.
+    // Events are counted from the game's event bus after every tick.
+    GameResult play(GameSpec spec) {
+        long start = System.nanoTime();
+        GameEngine engine = new GameEngine(spec.rows, spec.cols, spec.mazeType, new GameRandom(spec.seed), spec.ghosts);
+        InputPolicy policy = policies.create(spec.seed);
+        GameEventBus.Cursor events = engine.getEvents().subscribe();
+        long[] eventCounts = new long[GameEvent.values().length];
+        GameEvent.Handler counter = (event, tick, x, y, value) -> eventCounts[event.ordinal()]++;
+        while (!engine.isGameOver() && engine.getTicks() < maxTicks) {
+            engine.step(policy.nextInput(engine));
+            events.drain(counter);
+            if (engine.isPacmanDying()) {
+                engine.respawn();
+            }
+        }
+        return new GameResult(spec, engine.getScore(), engine.getLevel(), engine.getTicks(),
+            System.nanoTime() - start, engine.isGameOver(), eventCounts);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int games = 1000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long maxTicks = 20_000;
+        long firstSeed = 1;
+        String sizes = "20x20,40x40";
+        GameBoard.MazeType mazeType = GameBoard.MazeType.HYBRID;
+        int ghosts = 0; // 0 for the usual count for the board size
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--games": games = Integer.parseInt(value); break;
+                case "--threads": threads = Integer.parseInt(value); break;
+                case "--max-ticks": maxTicks = Long.parseLong(value); break;
+                case "--seed": firstSeed = Long.parseLong(value); break;
+                case "--sizes": sizes = value; break;
+                case "--maze": mazeType = GameBoard.MazeType.valueOf(value.toUpperCase()); break;
+                case "--ghosts": ghosts = Integer.parseInt(value); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        // Seeds are spread over the board sizes, so every size gets games / sizes games
+        String[] sizeList = sizes.split(",");
+        List<GameSpec> specs = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            String[] size = sizeList[i % sizeList.length].trim().split("x");
+            int rows = Integer.parseInt(size[0]), cols = Integer.parseInt(size[1]);
+            specs.add(new GameSpec(rows, cols, mazeType, firstSeed + i, ghosts > 0 ? ghosts : GameEngine.defaultGhostCount(rows, cols)));
+        }
+
+        BatchRunner runner = new BatchRunner(threads, InputPolicy::randomWalk, maxTicks);
+        try {
+            System.out.println("Running " + games + " games on " + threads + " threads");
+            System.out.println(runner.run(specs));
+        } finally {
+            runner.shutdown();
+        }
+    }
+}
@@ -0,0 +1,622 @@
+package engine;
+
+import models.EntityRegistry;
+import models.Fruit;
+import models.GameBoard;
+import models.Ghost;
+import models.GhostStore;
+import models.Pacman;
+import models.PowerUp;
+import util.GameRandom;
+import util.Log;
+import util.TimerWheel;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+// The game rules without any UI: Pacman and ghost movement, power-ups, fruit, collisions,
+// scoring, deaths and levels. Time is counted in ticks of TICK_MS, one per step(), and every
+// duration is a number of ticks, so the engine runs as fast as it is stepped and needs no display. GameController drives it in real time
+// and renders its state; a headless caller can just as well step it in a tight loop.
+// All randomness comes from a GameRandom, so the same seed and inputs replay the same game.
+// What happens in each tick is published as GameEvents on getEvents() for other threads.
+public class GameEngine {
+    public static final long TICK_MS = 100;
+    // How long a turn request waits to become possible while newer requests queue behind it
+    public static final int DEFAULT_TURN_BUFFER_TICKS = 5;
+
+    // Called on the thread that runs step() or respawn()
+    public interface Listener {
+        // Pacman was caught at (x, y); the game stays paused until respawn() is called
+        default void onPacmanDeath(int x, int y) {}
+        // The board was cleared and a new one is now in play
+        default void onLevelStarted(int level) {}
+    }
+
+    private static final int POWER_UP_DURATION_TICKS = 70;
+    private static final int INVINCIBILITY_DURATION_TICKS = 70;
+    private static final int[] GHOST_SCORES = {200, 400, 800, 1600}; // Increasing scores for consecutive ghost eats
+
+    // Ghost power-up dropping system
+    private static final int GHOST_POWERUP_INTERVAL_TICKS = 50; // 5 seconds
+    private static final double GHOST_POWERUP_CHANCE = 0.25; // 25% chance
+
+    // Fruit bonus system
+    private static class FruitSpawnRule {
+        int scoreThreshold;
+        Fruit.FruitType type;
+        int points;
+        FruitSpawnRule(int scoreThreshold, Fruit.FruitType type, int points) {
+            this.scoreThreshold = scoreThreshold;
+            this.type = type;
+            this.points = points;
+        }
+    }
+    private static final FruitSpawnRule[] fruitRules = new FruitSpawnRule[] {
+        new FruitSpawnRule(1000, Fruit.FruitType.CHERRY, 100),
+        new FruitSpawnRule(3000, Fruit.FruitType.STRAWBERRY, 300),
+        new FruitSpawnRule(5000, Fruit.FruitType.APPLE, 500),
+        new FruitSpawnRule(7000, Fruit.FruitType.PEACH, 700)
+    };
+
+    private static final Ghost.GhostType[] GHOST_TYPES = {
+        Ghost.GhostType.RED,
+        Ghost.GhostType.PINK,
+        Ghost.GhostType.BLUE,
+        Ghost.GhostType.ORANGE
+    };
+
+    private final GameRandom random;
+    private final IntFunction<GameBoard> nextBoards;
+    private SplittableRandom ghostRandom;
+    private SplittableRandom dropRandom;
+    private Listener listener = new Listener() {};
+    private final GameEventBus events = new GameEventBus();
+
+    private GameBoard gameBoard;
+    private Pacman pacman;
+    private final GhostStore ghosts;
+    private boolean pacmanDying; // the ghosts are hidden until respawn()
+    private int prevPacmanX, prevPacmanY;
+    // Turn requests not taken yet, oldest first. Each is taken as soon as Pacman can turn
+    // that way; one that can't be taken within turnBufferTicks of becoming the oldest gives way
+    // to the next request, while the newest request waits until it is taken or replaced.
+    private static final int MAX_PENDING_TURNS = 8;
+    private final Pacman.Direction[] pendingTurns = new Pacman.Direction[MAX_PENDING_TURNS];
+    private final long[] pendingTurnExpiry = new long[MAX_PENDING_TURNS];
+    private int pendingTurnHead, pendingTurnCount;
+    private int turnBufferTicks = DEFAULT_TURN_BUFFER_TICKS;
+    private boolean pacmanIsMoving = false;
+
+    private int score = 0;
+    private int lives = 3;
+    private int level = 1;
+    private long ticks = 0;
+
+    private long powerUpEndTick = 0;
+    private int powerUpScoreMultiplier = 1;
+    private boolean pacmanInvincible = false;
+    private long invincibilityEndTick = 0;
+    private final List<PowerUp> activePowerUps = new ArrayList<>();
+    private Fruit currentFruit = null;
+    private int nextFruitIndex = 0;
+
+    // Every expiration is a timer on the wheel, so a tick only pays for what is due.
+    // The wheel advances once per tick, where the power-ups used to be polled.
+    private static final int TIMER_WHEEL_SIZE = 256; // ticks; covers the longest timer
+    private final TimerWheel timers = new TimerWheel(TIMER_WHEEL_SIZE, 0);
+    private final Map<PowerUp, TimerWheel.Timer> powerUpTimers = new IdentityHashMap<>();
+    private final TimerWheel.Timer scareTimer = timers.newTimer(this::endGhostScare);
+    private final TimerWheel.Timer invincibilityTimer = timers.newTimer(() -> pacmanInvincible = false);
+    private final TimerWheel.Timer fruitTimer = timers.newTimer(this::despawnFruit);
+
+    // Levels after the first are played on boards from nextBoards, which is given the level
+    // number; boards should come from random.maze(level) for the game to be reproducible.
+    // ghostCount ghosts are spread over the ghost spawns in turn; more than the spawns make a swarm.
+    public GameEngine(GameBoard board, GameRandom random, IntFunction<GameBoard> nextBoards, int ghostCount) {
+        this.gameBoard = board;
+        this.random = random;
+        this.nextBoards = nextBoards;
+        ghostRandom = random.ghosts(level);
+        dropRandom = random.drops(level);
+
+        // Find Pacman spawn position
+        int[] pacmanPos = findSpawnPosition(GameBoard.Cell.PACMAN_SPAWN);
+        pacman = new Pacman(pacmanPos[0], pacmanPos[1]);
+        prevPacmanX = pacman.getX();
+        prevPacmanY = pacman.getY();
+
+        // Find ghost spawn positions (anywhere on the board)
+        List<int[]> ghostSpawns = gameBoard.getGhostSpawnPositions();
+        ghosts = new GhostStore(ghostSpawns.isEmpty() ? 0 : Math.max(0, ghostCount));
+        for (int i = 0; i < ghosts.size(); i++) {
+            int[] ghostPos = ghostSpawns.get(i % ghostSpawns.size());
+            ghosts.spawn(i, ghostPos[0], ghostPos[1], GHOST_TYPES[i % GHOST_TYPES.length]);
+        }
+
+        // Initialize ghost power-up timers
+        ghosts.setNextDropTickAll(ticks + GHOST_POWERUP_INTERVAL_TICKS);
+
+        // Index the ghosts by cell for collision checks
+        gameBoard.getEntities().setGhosts(ghosts);
+    }
+
+    public GameEngine(GameBoard board, GameRandom random, IntFunction<GameBoard> nextBoards) {
+        this(board, random, nextBoards, defaultGhostCount(board.getRows(), board.getCols()));
+    }
+
+    // Every level gets a board of the given size and maze type generated from the seed
+    public GameEngine(int rows, int cols, GameBoard.MazeType mazeType, GameRandom random, int ghostCount) {
+        this(new GameBoard(rows, cols, mazeType, random.maze(1)), random,
+            level -> new GameBoard(rows, cols, mazeType, random.maze(level)), ghostCount);
+    }
+
+    public GameEngine(int rows, int cols, GameBoard.MazeType mazeType, GameRandom random) {
+        this(rows, cols, mazeType, random, defaultGhostCount(rows, cols));
+    }
+
+    // Number of ghosts based on map size
+    public static int defaultGhostCount(int rows, int cols) {
+        if (rows <= 10 || cols <= 10) {
+            return 1;
+        } else if (rows <= 20 || cols <= 20) {
+            return 2;
+        } else if (rows <= 30 || cols <= 30) {
+            return 3;
+        }
+        return 4;
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener != null ? listener : new Listener() {};
+    }
+
+    public void setTurnBufferTicks(int ticks) {
+        turnBufferTicks = Math.max(1, ticks);
+    }
+
+    // Queues a turn for the coming ticks. ageTicks is how many ticks ago the player asked for
+    // it, e.g. for a key press that waited in an input queue; it counts against the buffer.
+    public void requestTurn(Pacman.Direction direction, long ageTicks) {
+        long expiry = ticks + turnBufferTicks - ageTicks;
+        if (pendingTurnCount > 0) {
+            int newest = (pendingTurnHead + pendingTurnCount - 1) % MAX_PENDING_TURNS;
+            if (pendingTurns[newest] == direction) {
+                // A repeated key (e.g. auto-repeat) only keeps the request fresh
+                pendingTurnExpiry[newest] = expiry;
+                return;
+            }
+        }
+        if (pendingTurnCount == MAX_PENDING_TURNS) {
+            popTurn();
+        }
+        int slot = (pendingTurnHead + pendingTurnCount) % MAX_PENDING_TURNS;
+        pendingTurns[slot] = direction;
+        pendingTurnExpiry[slot] = expiry;
+        pendingTurnCount++;
+    }
+
+    // The next request's wait only starts once it is the oldest
+    private void popTurn() {
+        pendingTurns[pendingTurnHead] = null;
+        pendingTurnHead = (pendingTurnHead + 1) % MAX_PENDING_TURNS;
+        pendingTurnCount--;
+        if (pendingTurnCount > 0) {
+            pendingTurnExpiry[pendingTurnHead] = Math.max(pendingTurnExpiry[pendingTurnHead], ticks + turnBufferTicks);
+        }
+    }
+
+    // Advances the game by one tick. input is a turn to request now, or null for none; see
+    // requestTurn(). Nothing moves while Pacman is dying or once the game is over.
+    public void step(Pacman.Direction input) {
+        if (input != null) {
+            requestTurn(input, 0);
+        }
+        if (pacmanDying || isGameOver()) return;
+        ticks++;
+        if (pendingTurnCount > 1 && pendingTurnExpiry[pendingTurnHead] < ticks) {
+            popTurn();
+        }
+
+        // Track previous positions
+        prevPacmanX = pacman.getX();
+        prevPacmanY = pacman.getY();
+        ghosts.savePositions();
+
+        // Move Pacman
+        pacmanIsMoving = false;
+        int moveSteps = (int)Math.round(pacman.getSpeed());
+        for (int step = 0; step < moveSteps; step++) {
+            // Take the oldest requested turn if possible
+            if (pendingTurnCount > 0) {
+                Pacman.Direction turn = pendingTurns[pendingTurnHead];
+                if (gameBoard.isValidMoveInDirection(pacman.getX(), pacman.getY(), Ghost.Direction.valueOf(turn.name()))) {
+                    pacman.setDirection(turn);
+                    popTurn();
+                }
+            }
+            // Move in current direction if possible
+            if (gameBoard.isValidMoveInDirection(pacman.getX(), pacman.getY(), Ghost.Direction.valueOf(pacman.getDirection().name()))) {
+                int oldX = pacman.getX();
+                int oldY = pacman.getY();
+                pacman.move();
+                if (pacman.getX() != oldX || pacman.getY() != oldY) {
+                    pacmanIsMoving = true;
+                }
+            } else {
+                // Can't move in current or desired direction, so stop
+                break;
+            }
+        }
+
+        // Move ghosts and check for power-up drops
+        int[] door = getGhostBaseDoor();
+        for (int i = 0; i < ghosts.size(); i++) {
+            // Handle returning ghosts
+            if (ghosts.isReturning(i)) {
+                Ghost.Direction towardsBase = gameBoard.directionTowards(ghosts.getX(i), ghosts.getY(i), door[0], door[1]);
+                if (towardsBase != null) {
+                    ghosts.setDirection(i, towardsBase);
+                    ghosts.move(i);
+                }
+                // If at base, respawn as normal
+                if (ghosts.getX(i) == door[0] && ghosts.getY(i) == door[1]) {
+                    if (Log.isEnabled(Log.Level.DEBUG)) {
+                        Log.debug("Ghost at base, respawning at ({},{})", door[0], door[1]);
+                    }
+                    ghosts.respawn(i, door[0], door[1]);
+                }
+                continue;
+            }
+
+            // Check for ghost power-up drops; a due check waits while the ghost can't drop
+            if (ticks >= ghosts.getNextDropTick(i) && !ghosts.isDead(i) && !ghosts.isScared(i) && !ghosts.isFrozen(i)) {
+                if (dropRandom.nextDouble() < GHOST_POWERUP_CHANCE) {
+                    // Create a random power-up at ghost's position
+                    PowerUp.PowerUpType type = PowerUp.PowerUpType.values()[dropRandom.nextInt(PowerUp.PowerUpType.values().length)];
+                    PowerUp powerUp = new PowerUp(ghosts.getX(i), ghosts.getY(i), type, ticks);
+                    activePowerUps.add(powerUp);
+                    events.publish(GameEvent.POWER_UP_SPAWNED, ticks, powerUp.getX(), powerUp.getY(), type.ordinal());
+                    if (Log.isEnabled(Log.Level.DEBUG)) {
+                        Log.debug("PowerUp spawned at: {},{} type: {}", powerUp.getX(), powerUp.getY(), type);
+                    }
+                    gameBoard.addPowerUp(powerUp);
+                    powerUpTimers.put(powerUp, timers.schedule(ticks + PowerUp.DESPAWN_TICKS + 1, () -> expirePowerUp(powerUp)));
+                }
+                ghosts.setNextDropTick(i, ticks + GHOST_POWERUP_INTERVAL_TICKS);
+            }
+
+            int x = ghosts.getX(i), y = ghosts.getY(i);
+            if (isGhostInBase(x, y)) {
+                // If not at the door, force move down toward the door
+                if (x == door[0] && y == door[1]) {
+                    // At the door, allow normal movement
+                } else {
+                    // Move down if possible
+                    if (gameBoard.isValidMoveInDirection(x, y, Ghost.Direction.DOWN)) {
+                        ghosts.setDirection(i, Ghost.Direction.DOWN);
+                        ghosts.move(i);
+                        continue;
+                    }
+                }
+            }
+            if (gameBoard.isValidMoveInDirection(x, y, ghosts.getDirection(i))) {
+                ghosts.move(i);
+            } else {
+                // Choose new direction if current one is blocked
+                List<int[]> validMoves = gameBoard.getValidMoves(x, y);
+                if (!validMoves.isEmpty()) {
+                    int[] newPos = validMoves.get(ghostRandom.nextInt(validMoves.size()));
+                    // Determine direction based on the new position
+                    if (newPos[0] > x) ghosts.setDirection(i, Ghost.Direction.RIGHT);
+                    else if (newPos[0] < x) ghosts.setDirection(i, Ghost.Direction.LEFT);
+                    else if (newPos[1] > y) ghosts.setDirection(i, Ghost.Direction.DOWN);
+                    else if (newPos[1] < y) ghosts.setDirection(i, Ghost.Direction.UP);
+                }
+            }
+        }
+
+        // Power-up lifetimes and effects, ghost scare, invincibility, fruit and drop checks
+        timers.advance(ticks);
+
+        // Fruit spawn logic
+        if (nextFruitIndex < fruitRules.length && score >= fruitRules[nextFruitIndex].scoreThreshold && currentFruit == null) {
+            // Spawn fruit at a random valid position
+            int[] pos = gameBoard.generateRandomValidPosition(dropRandom);
+            FruitSpawnRule rule = fruitRules[nextFruitIndex];
+            currentFruit = new Fruit(pos[0], pos[1], rule.type, rule.points, ticks);
+            gameBoard.getEntities().setFruit(currentFruit);
+            timers.reschedule(fruitTimer, ticks + Fruit.DESPAWN_TICKS + 1);
+            events.publish(GameEvent.FRUIT_SPAWNED, ticks, pos[0], pos[1], rule.type.ordinal());
+            nextFruitIndex++;
+            if (nextFruitIndex == fruitRules.length) nextFruitIndex = 0;
+        }
+
+        // Re-index the ghosts after this tick's moves
+        gameBoard.getEntities().updateGhosts();
+
+        checkCollisions();
+
+        if (gameBoard.getRemainingDots() == 0) {
+            events.publish(GameEvent.LEVEL_CLEARED, ticks, pacman.getX(), pacman.getY(), level);
+            startNextLevel();
+        }
+    }
+
+    private void startNextLevel() {
+        level++;
+        gameBoard = nextBoards.apply(level);
+        ghostRandom = random.ghosts(level);
+        dropRandom = random.drops(level);
+        // Find Pacman spawn position
+        int[] pacmanPos = findSpawnPosition(GameBoard.Cell.PACMAN_SPAWN);
+        pacman.setX(pacmanPos[0]);
+        pacman.setY(pacmanPos[1]);
+        // Find ghost spawn positions
+        respawnGhosts();
+        gameBoard.getEntities().setGhosts(ghosts);
+        // Reset power-ups and timers
+        activePowerUps.clear();
+        powerUpTimers.clear();
+        timers.cancelAll();
+        ghosts.setNextDropTickAll(ticks + GHOST_POWERUP_INTERVAL_TICKS);
+        powerUpEndTick = 0;
+        pacmanInvincible = false;
+        // Reset fruit sequence for new level
+        currentFruit = null;
+        nextFruitIndex = 0;
+        listener.onLevelStarted(level);
+    }
+
+    // Back to the ghost spawns, taken in turn as on a new game
+    private void respawnGhosts() {
+        List<int[]> ghostSpawns = gameBoard.getGhostSpawnPositions();
+        if (ghostSpawns.isEmpty()) return;
+        for (int i = 0; i < ghosts.size(); i++) {
+            int[] ghostPos = ghostSpawns.get(i % ghostSpawns.size());
+            ghosts.respawn(i, ghostPos[0], ghostPos[1]);
+        }
+    }
+
+    // A power-up left unpicked for too long, or one whose effect ran out
+    private void expirePowerUp(PowerUp powerUp) {
+        if (powerUp.isActive()) {
+            powerUp.deactivate();
+            if (powerUp.getType() == PowerUp.PowerUpType.GHOST_FREEZE) {
+                ghosts.unfreezeAll();
+            }
+        }
+        events.publish(GameEvent.POWER_UP_EXPIRED, ticks, powerUp.getX(), powerUp.getY(), powerUp.getType().ordinal());
+        powerUpTimers.remove(powerUp);
+        activePowerUps.remove(powerUp);
+        gameBoard.removePowerUp(powerUp);
+    }
+
+    private void endGhostScare() {
+        // Power-up ended
+        ghosts.calmAll();
+        powerUpEndTick = 0;
+        powerUpScoreMultiplier = 1;
+    }
+
+    private void despawnFruit() {
+        currentFruit = null;
+        gameBoard.getEntities().setFruit(null);
+    }
+
+    private int[] findSpawnPosition(GameBoard.Cell spawnType) {
+        for (int i = 0; i < gameBoard.getRows(); i++) {
+            for (int j = 0; j < gameBoard.getCols(); j++) {
+                if (gameBoard.getCell(j, i) == spawnType) {
+                    return new int[]{j, i};
+                }
+            }
+        }
+        // Fallback to random position if spawn not found
+        return gameBoard.generateRandomValidPosition(dropRandom);
+    }
+
+    // Returns true if the ghost is inside the base (not just at the door)
+    private boolean isGhostInBase(int x, int y) {
+        int centerRow = gameBoard.getRows() / 2, centerCol = gameBoard.getCols() / 2;
+        int baseHeight, baseWidth;
+        if (gameBoard.getRows() <= 20 && gameBoard.getCols() <= 20) {
+            baseHeight = 3;
+            baseWidth = 3;
+        } else {
+            baseHeight = 3;
+            baseWidth = 5;
+        }
+        int baseTop = centerRow - baseHeight / 2, baseLeft = centerCol - baseWidth / 2;
+        int doorY = baseTop + baseHeight - 1;
+        int doorX = baseLeft + baseWidth / 2;
+        return (y >= baseTop + 1 && y < baseTop + baseHeight - 1 && x >= baseLeft + 1 && x < baseLeft + baseWidth - 1)
+            || (y == doorY && x == doorX);
+    }
+
+    // Returns the coordinates of the door of the ghost base
+    private int[] getGhostBaseDoor() {
+        int centerRow = gameBoard.getRows() / 2, centerCol = gameBoard.getCols() / 2;
+        int baseHeight, baseWidth;
+        if (gameBoard.getRows() <= 20 && gameBoard.getCols() <= 20) {
+            baseHeight = 3;
+            baseWidth = 3;
+        } else {
+            baseHeight = 3;
+            baseWidth = 5;
+        }
+        int baseTop = centerRow - baseHeight / 2, baseLeft = centerCol - baseWidth / 2;
+        int doorY = baseTop + baseHeight - 1;
+        int doorX = baseLeft + baseWidth / 2;
+        return new int[]{doorX, doorY};
+    }
+
+    private void checkCollisions() {
+        // Check for dot collection
+        if (gameBoard.getCell(pacman.getX(), pacman.getY()) == GameBoard.Cell.DOT) {
+            score += 10;
+            gameBoard.setCell(pacman.getX(), pacman.getY(), GameBoard.Cell.EMPTY);
+            gameBoard.collectDot(pacman.getX(), pacman.getY());
+            events.publish(GameEvent.DOT_EATEN, ticks, pacman.getX(), pacman.getY(), 10);
+        }
+        // Check for power dot collection
+        else if (gameBoard.getCell(pacman.getX(), pacman.getY()) == GameBoard.Cell.POWER_DOT) {
+            score += 50;
+            gameBoard.setCell(pacman.getX(), pacman.getY(), GameBoard.Cell.EMPTY);
+            gameBoard.collectDot(pacman.getX(), pacman.getY());
+            events.publish(GameEvent.POWER_DOT_EATEN, ticks, pacman.getX(), pacman.getY(), 50);
+            // Power-up effect: set all ghosts to SCARED
+            ghosts.scareAll();
+            powerUpEndTick = ticks + POWER_UP_DURATION_TICKS;
+            timers.reschedule(scareTimer, powerUpEndTick);
+            powerUpScoreMultiplier = 1; // Reset multiplier when new power-up is collected
+        }
+
+        // Check for power-up collection
+        PowerUp pickedUp = gameBoard.getEntities().pickablePowerUpAt(pacman.getX(), pacman.getY());
+        if (pickedUp != null) {
+            pickedUp.activate();
+            events.publish(GameEvent.POWER_UP_COLLECTED, ticks, pickedUp.getX(), pickedUp.getY(), pickedUp.getType().ordinal());
+            applyPowerUpEffect(pickedUp);
+            // Its lifetime is now the effect's; instant ones go on the next tick
+            int effectTicks = pickedUp.getType() == PowerUp.PowerUpType.INVINCIBILITY ? INVINCIBILITY_DURATION_TICKS : pickedUp.getDuration();
+            timers.reschedule(powerUpTimers.get(pickedUp), ticks + effectTicks);
+        }
+
+        // Ghost collisions only look at the ghosts on Pacman's cells in the registry's
+        // occupancy index, lowest slot first, so their cost doesn't grow with the swarm
+        EntityRegistry entities = gameBoard.getEntities();
+        int pacmanX = pacman.getX(), pacmanY = pacman.getY();
+        // Check for ghost collisions (same cell)
+        for (int i = entities.ghostAt(pacmanX, pacmanY); i >= 0; i = entities.nextGhostOnCell(i)) {
+            if (ghosts.isReturning(i)) continue; // Ignore returning ghosts
+            if (pacmanInvincible) {
+                // Ignore collision
+                continue;
+            }
+            if (ghosts.isScared(i)) {
+                // Set ghost to RETURNING state
+                ghosts.becomeReturning(i);
+                events.publish(GameEvent.GHOST_EATEN, ticks, ghosts.getX(i), ghosts.getY(i), 0);
+                powerUpScoreMultiplier = Math.min(powerUpScoreMultiplier + 1, GHOST_SCORES.length);
+            } else {
+                handlePacmanDeath();
+                break;
+            }
+        }
+        // Check for position swaps (Pacman and ghost swapped places in one tick): ghosts now on
+        // Pacman's previous cell that came from his current one
+        int swapFrom = pacmanDying ? -1 : entities.ghostAt(prevPacmanX, prevPacmanY);
+        for (int i = swapFrom; i >= 0; i = entities.nextGhostOnCell(i)) {
+            if (ghosts.isReturning(i)) continue; // Ignore returning ghosts
+            if (pacmanX == ghosts.getPrevX(i) && pacmanY == ghosts.getPrevY(i)) {
+                if (pacmanInvincible) {
+                    // Ignore collision
+                    continue;
+                }
+                if (ghosts.isScared(i)) {
+                    int ghostScore = GHOST_SCORES[Math.min(powerUpScoreMultiplier - 1, GHOST_SCORES.length - 1)];
+                    score += ghostScore;
+                    powerUpScoreMultiplier = Math.min(powerUpScoreMultiplier + 1, GHOST_SCORES.length);
+                    ghosts.becomeReturning(i);
+                    events.publish(GameEvent.GHOST_EATEN, ticks, ghosts.getX(i), ghosts.getY(i), ghostScore);
+                } else {
+                    handlePacmanDeath();
+                    break;
+                }
+            }
+        }
+
+        // Check for fruit collection
+        Fruit eatenFruit = gameBoard.getEntities().fruitAt(pacman.getX(), pacman.getY());
+        if (eatenFruit != null) {
+            score += eatenFruit.getPoints();
+            events.publish(GameEvent.FRUIT_EATEN, ticks, eatenFruit.getX(), eatenFruit.getY(), eatenFruit.getPoints());
+            timers.cancel(fruitTimer);
+            currentFruit = null;
+            gameBoard.getEntities().setFruit(null);
+        }
+    }
+
+    private void applyPowerUpEffect(PowerUp powerUp) {
+        switch (powerUp.getType()) {
+            case SPEED_BOOST:
+                Log.debug("Speed boost");
+                break;
+            case GHOST_SCARE:
+                ghosts.scareAll();
+                powerUpEndTick = ticks + POWER_UP_DURATION_TICKS;
+                timers.reschedule(scareTimer, powerUpEndTick);
+                break;
+            case EXTRA_LIFE:
+                lives++;
+                break;
+            case SCORE_MULTIPLIER:
+                powerUpScoreMultiplier = 2;
+                break;
+            case GHOST_FREEZE:
+                ghosts.freezeAll();
+                break;
+            case INVINCIBILITY:
+                pacmanInvincible = true;
+                invincibilityEndTick = ticks + INVINCIBILITY_DURATION_TICKS;
+                timers.reschedule(invincibilityTimer, invincibilityEndTick);
+                break;
+        }
+    }
+
+    // Ghosts are hidden and the game pauses until respawn()
+    private void handlePacmanDeath() {
+        lives--;
+        events.publish(GameEvent.PACMAN_DIED, ticks, pacman.getX(), pacman.getY(), lives);
+        pacmanDying = true;
+        gameBoard.getEntities().setGhosts(null);
+        listener.onPacmanDeath(pacman.getX(), pacman.getY());
+    }
+
+    // Ends the pause after a death: Pacman reappears on a random free cell, the ghosts at their spawns
+    public void respawn() {
+        if (!pacmanDying) return;
+        int[] pacmanPos = gameBoard.generateRandomValidPosition(dropRandom);
+        pacman.setX(pacmanPos[0]);
+        pacman.setY(pacmanPos[1]);
+        respawnGhosts();
+        pacmanDying = false;
+        // Turns asked for before the death don't apply to the new position
+        while (pendingTurnCount > 0) {
+            popTurn();
+        }
+        gameBoard.getEntities().setGhosts(ghosts);
+    }
+
+    // State for rendering and the HUD
+    public GameBoard getBoard() { return gameBoard; }
+    public Pacman getPacman() { return pacman; }
+    public GhostStore getGhosts() { return ghosts; }
+    public int getPrevPacmanX() { return prevPacmanX; }
+    public int getPrevPacmanY() { return prevPacmanY; }
+    public boolean isPacmanMoving() { return pacmanIsMoving; }
+    public List<PowerUp> getActivePowerUps() { return activePowerUps; }
+    public Fruit getFruit() { return currentFruit; }
+    public int getScore() { return score; }
+    public int getLives() { return lives; }
+    public int getLevel() { return level; }
+    public GameRandom getRandom() { return random; }
+    public GameEventBus getEvents() { return events; }
+    public boolean isPacmanInvincible() { return pacmanInvincible; }
+    public boolean isPacmanDying() { return pacmanDying; }
+    public boolean isGameOver() { return lives <= 0; }
+    // Simulated time since the start of the game and the number of ticks played
+    public long getTimeMs() { return ticks * TICK_MS; }
+    public long getTicks() { return ticks; }
+
+    // Time left on the countdown shown in the HUD; invincibility takes precedence over a ghost scare
+    public long getPowerUpRemainingMs() {
+        if (pacmanInvincible) return Math.max(0, invincibilityEndTick - ticks) * TICK_MS;
+        return powerUpEndTick > 0 ? Math.max(0, powerUpEndTick - ticks) * TICK_MS : 0;
+    }
+}
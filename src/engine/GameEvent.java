@@ -0,0 +1,27 @@
+package engine;
+
+// What happened in a tick, as published on the GameEventBus. Every event has the tick it
+// happened in, a cell (x, y) and one int value whose meaning depends on the type.
+public enum GameEvent {
+    DOT_EATEN,          // value: points scored
+    POWER_DOT_EATEN,    // value: points scored
+    GHOST_EATEN,        // value: points scored (0 when the ghost was caught on Pacman's cell)
+    POWER_UP_SPAWNED,   // value: PowerUpType ordinal
+    POWER_UP_COLLECTED, // value: PowerUpType ordinal
+    POWER_UP_EXPIRED,   // value: PowerUpType ordinal; despawned unpicked or its effect ran out
+    FRUIT_SPAWNED,      // value: FruitType ordinal
+    FRUIT_EATEN,        // value: points scored
+    PACMAN_DIED,        // value: lives left
+    LEVEL_CLEARED;      // value: the level that was cleared; (x, y) is where Pacman finished it
+
+    private static final GameEvent[] VALUES = values();
+
+    static GameEvent of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    // Receives events from GameEventBus.Cursor.drain(); the arguments are only valid during the call
+    public interface Handler {
+        void onEvent(GameEvent event, long tick, int x, int y, int value);
+    }
+}
@@ -0,0 +1,100 @@
+package engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Single-producer ring buffer of GameEvents. The tick thread publishes into preallocated slots
+// without locking, allocating or waiting; any number of consumers each keep their own Cursor
+// and drain on their own thread. A consumer that falls more than a ring's length behind loses
+// the overwritten events, which its cursor counts, rather than ever holding up the game.
+// Each slot is a seqlock: its version is odd while being written and 2 * (sequence + 1) once
+// event number sequence is complete, so a reader can tell a torn or overwritten slot.
+public class GameEventBus {
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    private static final int WORDS_PER_SLOT = 3; // tick, event | x | y, value
+    private static final int COORD_BITS = 24;
+    private static final long COORD_MASK = (1L << COORD_BITS) - 1;
+
+    private final int mask;
+    private final AtomicLongArray versions;
+    private final AtomicLongArray words;
+    private final AtomicLong published = new AtomicLong(); // events published so far
+    private long next; // producer only
+
+    // capacity is rounded up to a power of two
+    public GameEventBus(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        mask = size - 1;
+        versions = new AtomicLongArray(size);
+        words = new AtomicLongArray(size * WORDS_PER_SLOT);
+    }
+
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    // Producer: appends an event, overwriting the oldest once the ring is full
+    public void publish(GameEvent event, long tick, int x, int y, int value) {
+        long sequence = next++;
+        int slot = (int) (sequence & mask);
+        int base = slot * WORDS_PER_SLOT;
+        versions.set(slot, 2 * sequence + 1);
+        words.lazySet(base, tick);
+        words.lazySet(base + 1, ((long) event.ordinal() << (2 * COORD_BITS)) | ((x & COORD_MASK) << COORD_BITS) | (y & COORD_MASK));
+        words.lazySet(base + 2, value);
+        versions.lazySet(slot, 2 * sequence + 2);
+        published.lazySet(next);
+    }
+
+    // A consumer positioned after the events published so far
+    public Cursor subscribe() {
+        return new Cursor(published.get());
+    }
+
+    // One consumer's position in the ring; use each cursor from one thread only
+    public final class Cursor {
+        private long position;
+        private long lost;
+
+        private Cursor(long position) {
+            this.position = position;
+        }
+
+        // Hands every event published since the last call to handler, oldest first, and
+        // returns how many were delivered. Events already overwritten are skipped and counted.
+        public int drain(GameEvent.Handler handler) {
+            long end = published.get();
+            int delivered = 0;
+            while (position < end) {
+                if (end - position > mask + 1) {
+                    // Fell behind by more than the ring; jump to the oldest event still there
+                    lost += end - position - (mask + 1);
+                    position = end - (mask + 1);
+                }
+                int slot = (int) (position & mask);
+                int base = slot * WORDS_PER_SLOT;
+                long version = versions.get(slot);
+                long tick = words.get(base);
+                long packed = words.get(base + 1);
+                int value = (int) words.get(base + 2);
+                if (version != 2 * position + 2 || versions.get(slot) != version) {
+                    // Overwritten while reading; the newer events are still ahead
+                    lost++;
+                    position++;
+                    continue;
+                }
+                position++;
+                delivered++;
+                handler.onEvent(GameEvent.of((int) (packed >>> (2 * COORD_BITS))), tick,
+                    (int) ((packed >>> COORD_BITS) & COORD_MASK), (int) (packed & COORD_MASK), value);
+            }
+            return delivered;
+        }
+
+        // Events this consumer missed because it fell behind
+        public long getLost() {
+            return lost;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package engine;
+
+import models.GameBoard;
+import models.Ghost;
+import models.Pacman;
+
+import java.util.SplittableRandom;
+
+// Steers Pacman in a headless game: asked once per tick for the direction to steer towards.
+// A policy belongs to a single game, so it may keep state between ticks.
+public interface InputPolicy {
+    // null keeps the previous direction
+    Pacman.Direction nextInput(GameEngine engine);
+
+    // Creates the policy for one game; seed is the game's seed, for policies that need randomness
+    interface Factory {
+        InputPolicy create(long seed);
+    }
+
+    // Keeps going straight and picks a random open direction at walls and, now and then, at junctions
+    static InputPolicy randomWalk(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Pacman.Direction[] directions = Pacman.Direction.values();
+        return engine -> {
+            Pacman pacman = engine.getPacman();
+            GameBoard board = engine.getBoard();
+            Pacman.Direction current = pacman.getDirection();
+            boolean blocked = current == null
+                || !board.isValidMoveInDirection(pacman.getX(), pacman.getY(), Ghost.Direction.valueOf(current.name()));
+            if (!blocked && random.nextInt(8) != 0) return null;
+            int start = random.nextInt(directions.length);
+            for (int i = 0; i < directions.length; i++) {
+                Pacman.Direction direction = directions[(start + i) % directions.length];
+                if (board.isValidMoveInDirection(pacman.getX(), pacman.getY(), Ghost.Direction.valueOf(direction.name()))) {
+                    return direction;
+                }
+            }
+            return null;
+        };
+    }
+}
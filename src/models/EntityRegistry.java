@@ -0,0 +1,153 @@
+package models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Cell-indexed lookup of everything that sits on the board: dots, power-ups, the fruit and
+// ghost occupancy. Cells are addressed by the flat index y * cols + x so lookups are O(1);
+// dots, power-ups and the fruit are kept up to date as they appear and disappear, ghost
+// occupancy is rebuilt in one pass after the ghosts move.
+public class EntityRegistry {
+    private final int rows;
+    private final int cols;
+
+    private final Dot[] dots;
+    private final List<List<PowerUp>> powerUps; // per cell, created lazily; several power-ups can share a cell
+    private Fruit fruit;
+
+    // Ghost occupancy: per cell the lowest ghost slot on it, chained to the next slot on the same
+    // cell. A cell's head only counts if its stamp is the current build, so a rebuild never clears
+    private GhostStore ghosts;
+    private int[] nextGhost = new int[0];
+    private final int[] firstGhost;
+    private final int[] ghostStamp;
+    private int ghostBuild;
+
+    public EntityRegistry(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.dots = new Dot[rows * cols];
+        this.powerUps = new ArrayList<>(Collections.nCopies(rows * cols, (List<PowerUp>) null));
+        this.firstGhost = new int[rows * cols];
+        this.ghostStamp = new int[rows * cols];
+    }
+
+    public int index(int x, int y) {
+        return y * cols + x;
+    }
+
+    public boolean contains(int x, int y) {
+        return x >= 0 && x < cols && y >= 0 && y < rows;
+    }
+
+    // Dots
+    public void addDot(Dot dot) {
+        dots[index(dot.getX(), dot.getY())] = dot;
+    }
+
+    public void clearDots() {
+        java.util.Arrays.fill(dots, null);
+    }
+
+    public Dot dotAt(int x, int y) {
+        return contains(x, y) ? dots[index(x, y)] : null;
+    }
+
+    // Power-ups
+    public void addPowerUp(PowerUp powerUp) {
+        if (!contains(powerUp.getX(), powerUp.getY())) return;
+        int i = index(powerUp.getX(), powerUp.getY());
+        List<PowerUp> cell = powerUps.get(i);
+        if (cell == null) {
+            cell = new ArrayList<>(2);
+            powerUps.set(i, cell);
+        }
+        cell.add(powerUp);
+    }
+
+    public void removePowerUp(PowerUp powerUp) {
+        if (!contains(powerUp.getX(), powerUp.getY())) return;
+        List<PowerUp> cell = powerUps.get(index(powerUp.getX(), powerUp.getY()));
+        if (cell != null) cell.remove(powerUp);
+    }
+
+    public void clearPowerUps() {
+        for (List<PowerUp> cell : powerUps) {
+            if (cell != null) cell.clear();
+        }
+    }
+
+    // The oldest power-up on the cell that is still waiting to be picked up
+    public PowerUp pickablePowerUpAt(int x, int y) {
+        if (!contains(x, y)) return null;
+        List<PowerUp> cell = powerUps.get(index(x, y));
+        if (cell == null) return null;
+        for (int i = 0; i < cell.size(); i++) {
+            PowerUp powerUp = cell.get(i);
+            if (!powerUp.isActive()) return powerUp;
+        }
+        return null;
+    }
+
+    // Fruit
+    public void setFruit(Fruit fruit) {
+        this.fruit = fruit;
+    }
+
+    public Fruit fruitAt(int x, int y) {
+        Fruit f = fruit;
+        return f != null && f.getX() == x && f.getY() == y ? f : null;
+    }
+
+    // Ghosts
+    // Indexes a new set of ghosts, e.g. on a new game; null while they are hidden on death
+    public void setGhosts(GhostStore ghosts) {
+        int count = ghosts != null ? ghosts.size() : 0;
+        this.ghosts = ghosts;
+        if (nextGhost.length != count) nextGhost = new int[count];
+        updateGhosts();
+    }
+
+    // Rebuilds the index from the ghosts' current cells; O(ghosts), not O(cells)
+    public void updateGhosts() {
+        if (++ghostBuild == 0) {
+            // Wrapped around: old stamps could pass for current ones
+            java.util.Arrays.fill(ghostStamp, 0);
+            ghostBuild = 1;
+        }
+        if (ghosts == null) return;
+        // Prepending from the highest slot down leaves every chain in ascending slot order
+        for (int slot = nextGhost.length - 1; slot >= 0; slot--) {
+            int x = ghosts.getX(slot), y = ghosts.getY(slot);
+            if (!contains(x, y)) continue;
+            int cell = index(x, y);
+            if (ghostStamp[cell] == ghostBuild) {
+                nextGhost[slot] = firstGhost[cell];
+            } else {
+                ghostStamp[cell] = ghostBuild;
+                nextGhost[slot] = -1;
+            }
+            firstGhost[cell] = slot;
+        }
+    }
+
+    // The lowest ghost slot on the cell, matching the renderer's draw order; -1 if none
+    public int ghostAt(int x, int y) {
+        if (!contains(x, y)) return -1;
+        int cell = index(x, y);
+        return ghostStamp[cell] == ghostBuild ? firstGhost[cell] : -1;
+    }
+
+    // The next higher ghost slot on the same cell as slot; -1 if none
+    public int nextGhostOnCell(int slot) {
+        return nextGhost[slot];
+    }
+
+    public boolean hasGhostAt(int x, int y) {
+        return ghostAt(x, y) >= 0;
+    }
+
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+}
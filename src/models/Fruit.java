@@ -1,25 +1,24 @@
 package models;
 
+// Times are in simulation ticks of 100 ms
 public class Fruit {
     public enum FruitType { CHERRY, STRAWBERRY, APPLE, PEACH }
     private int x, y;
     private FruitType type;
     private int points;
-    private long spawnTime;
-    private static final long DESPAWN_TIME_MS = 10000; // 10 seconds
+    private long spawnTick;
+    public static final int DESPAWN_TICKS = 100; // 10 seconds
 
-    public Fruit(int x, int y, FruitType type, int points) {
+    public Fruit(int x, int y, FruitType type, int points, long spawnTick) {
         this.x = x;
         this.y = y;
         this.type = type;
         this.points = points;
-        this.spawnTime = System.currentTimeMillis();
+        this.spawnTick = spawnTick;
     }
     public int getX() { return x; }
     public int getY() { return y; }
     public FruitType getType() { return type; }
     public int getPoints() { return points; }
-    public boolean shouldDespawn() {
-        return System.currentTimeMillis() - spawnTime > DESPAWN_TIME_MS;
-    }
+    public long getSpawnTick() { return spawnTick; }
 } 
\ No newline at end of file
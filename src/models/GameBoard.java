@@ -2,7 +2,7 @@ package models;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 public class GameBoard {
     private Cell[][] board;
@@ -12,7 +12,13 @@ public class GameBoard {
     private List<PowerUp> powerUps;
     private int remainingDots;
     private int level;
-    private Random random;
+    private SplittableRandom random;
+    private EntityRegistry entities;
+    private List<int[]> ghostSpawnPositions;
+    // BFS distances (in moves) from every cell to one target cell, -1 where unreachable
+    private int[] distanceField;
+    private int distanceTargetX = -1;
+    private int distanceTargetY = -1;
 
     public enum Cell {
         EMPTY,
@@ -33,6 +39,11 @@ public class GameBoard {
     private MazeType mazeType = MazeType.HYBRID;
 
     public GameBoard(int rows, int cols, MazeType mazeType) {
+        this(rows, cols, mazeType, new SplittableRandom());
+    }
+
+    // The maze is generated from the given random stream, so the same seed gives the same board
+    public GameBoard(int rows, int cols, MazeType mazeType, SplittableRandom random) {
         this.rows = rows;
         this.cols = cols;
         this.board = new Cell[rows][cols];
@@ -40,14 +51,19 @@ public class GameBoard {
         this.powerUps = new ArrayList<>();
         this.remainingDots = 0;
         this.level = 1;
-        this.random = new Random();
+        this.random = random;
         this.mazeType = mazeType;
+        this.entities = new EntityRegistry(rows, cols);
         initializeBoard();
     }
 
     private void initializeBoard() {
+        // Cached lookups depend on the maze layout
+        ghostSpawnPositions = null;
+        distanceField = null;
         // Clear dots and reset counter
         dots.clear();
+        entities.clearDots();
         remainingDots = 0;
         // Fill with walls
         for (int i = 0; i < rows; i++) {
@@ -160,7 +176,9 @@ public class GameBoard {
             for (int j = 1; j < cols - 1; j++) {
                 if (board[i][j] == Cell.EMPTY && reachable[i][j]) {
                     board[i][j] = Cell.DOT;
-                    dots.add(new Dot(j, i, Dot.DotType.REGULAR));
+                    Dot dot = new Dot(j, i, Dot.DotType.REGULAR);
+                    dots.add(dot);
+                    entities.addDot(dot);
                     remainingDots++;
                 }
             }
@@ -168,23 +186,30 @@ public class GameBoard {
         // Place power dots in the corners (if open and reachable)
         if (board[1][1] == Cell.DOT && reachable[1][1]) {
             board[1][1] = Cell.POWER_DOT;
-            dots.add(new Dot(1, 1, Dot.DotType.POWER));
+            addPowerDot(1, 1);
         }
         if (board[1][cols - 2] == Cell.DOT && reachable[1][cols - 2]) {
             board[1][cols - 2] = Cell.POWER_DOT;
-            dots.add(new Dot(cols - 2, 1, Dot.DotType.POWER));
+            addPowerDot(cols - 2, 1);
         }
         if (board[rows - 2][1] == Cell.DOT && reachable[rows - 2][1]) {
             board[rows - 2][1] = Cell.POWER_DOT;
-            dots.add(new Dot(1, rows - 2, Dot.DotType.POWER));
+            addPowerDot(1, rows - 2);
         }
         if (board[rows - 2][cols - 2] == Cell.DOT && reachable[rows - 2][cols - 2]) {
             board[rows - 2][cols - 2] = Cell.POWER_DOT;
-            dots.add(new Dot(cols - 2, rows - 2, Dot.DotType.POWER));
+            addPowerDot(cols - 2, rows - 2);
         }
     }
 
 
+    // Power dots replace the regular dot registered for the same cell
+    private void addPowerDot(int x, int y) {
+        Dot dot = new Dot(x, y, Dot.DotType.POWER);
+        dots.add(dot);
+        entities.addDot(dot);
+    }
+
     private void generateHybridMaze() {
         // Generate a perfect maze on the left half using DFS
         int halfCols = cols / 2 + 1;
@@ -337,9 +362,69 @@ public class GameBoard {
     public Cell[][] getBoard() { return board; }
     public void setBoard(Cell[][] board) { this.board = board; }
     public int getRows() { return rows; }
+    public MazeType getMazeType() { return mazeType; }
     public int getCols() { return cols; }
     public List<Dot> getDots() { return dots; }
     public List<PowerUp> getPowerUps() { return powerUps; }
+    public EntityRegistry getEntities() { return entities; }
+
+    // All GHOST_SPAWN cells as {x, y}, row by row; computed once per board
+    public List<int[]> getGhostSpawnPositions() {
+        if (ghostSpawnPositions == null) {
+            List<int[]> positions = new ArrayList<>();
+            for (int y = 0; y < rows; y++) {
+                for (int x = 0; x < cols; x++) {
+                    if (board[y][x] == Cell.GHOST_SPAWN) {
+                        positions.add(new int[]{x, y});
+                    }
+                }
+            }
+            ghostSpawnPositions = positions;
+        }
+        return ghostSpawnPositions;
+    }
+
+    // Direction of the first move on a shortest path from (x, y) to the target, or null when
+    // already there or unreachable. Distances to the target are computed once per maze with a
+    // BFS, so ghosts heading for the same cell every tick cost O(1) each instead of a search.
+    public Ghost.Direction directionTowards(int x, int y, int targetX, int targetY) {
+        if (!isValidPosition(x, y) || !isValidMovePosition(targetX, targetY)) return null;
+        if (distanceField == null || targetX != distanceTargetX || targetY != distanceTargetY) {
+            computeDistanceField(targetX, targetY);
+        }
+        int distance = distanceField[y * cols + x];
+        if (distance <= 0) return null;
+        // Same preference order as the ghosts' old per-tick search: right, left, down, up
+        if (isValidMovePosition(x + 1, y) && distanceField[y * cols + x + 1] == distance - 1) return Ghost.Direction.RIGHT;
+        if (isValidMovePosition(x - 1, y) && distanceField[y * cols + x - 1] == distance - 1) return Ghost.Direction.LEFT;
+        if (isValidMovePosition(x, y + 1) && distanceField[(y + 1) * cols + x] == distance - 1) return Ghost.Direction.DOWN;
+        if (isValidMovePosition(x, y - 1) && distanceField[(y - 1) * cols + x] == distance - 1) return Ghost.Direction.UP;
+        return null;
+    }
+
+    // Moves only ever enter open cells, so walking outwards from the target over open cells
+    // gives every cell's distance to it
+    private void computeDistanceField(int targetX, int targetY) {
+        int[] field = new int[rows * cols];
+        java.util.Arrays.fill(field, -1);
+        int[] queue = new int[rows * cols];
+        int head = 0, tail = 0;
+        field[targetY * cols + targetX] = 0;
+        queue[tail++] = targetY * cols + targetX;
+        while (head < tail) {
+            int cell = queue[head++];
+            int x = cell % cols, y = cell / cols;
+            int next = field[cell] + 1;
+            if (isValidMovePosition(x + 1, y) && field[cell + 1] < 0) { field[cell + 1] = next; queue[tail++] = cell + 1; }
+            if (isValidMovePosition(x - 1, y) && field[cell - 1] < 0) { field[cell - 1] = next; queue[tail++] = cell - 1; }
+            if (isValidMovePosition(x, y + 1) && field[cell + cols] < 0) { field[cell + cols] = next; queue[tail++] = cell + cols; }
+            if (isValidMovePosition(x, y - 1) && field[cell - cols] < 0) { field[cell - cols] = next; queue[tail++] = cell - cols; }
+        }
+        distanceField = field;
+        distanceTargetX = targetX;
+        distanceTargetY = targetY;
+    }
+
     public int getRemainingDots() { return remainingDots; }
     public void setRemainingDots(int remainingDots) { this.remainingDots = remainingDots; }
     public int getLevel() { return level; }
@@ -364,29 +449,32 @@ public class GameBoard {
 
     public void addDot(Dot dot) {
         dots.add(dot);
+        entities.addDot(dot);
         remainingDots++;
     }
 
     public void addPowerUp(PowerUp powerUp) {
         powerUps.add(powerUp);
+        entities.addPowerUp(powerUp);
+    }
+
+    public void removePowerUp(PowerUp powerUp) {
+        powerUps.remove(powerUp);
+        entities.removePowerUp(powerUp);
     }
 
     public void collectDot(int x, int y) {
-        for (Dot dot : dots) {
-            if (dot.getX() == x && dot.getY() == y && !dot.isCollected()) {
-                dot.setCollected(true);
-                remainingDots--;
-                break;
-            }
+        Dot dot = entities.dotAt(x, y);
+        if (dot != null && !dot.isCollected()) {
+            dot.setCollected(true);
+            remainingDots--;
         }
     }
 
     public void collectPowerUp(int x, int y) {
-        for (PowerUp powerUp : powerUps) {
-            if (powerUp.getX() == x && powerUp.getY() == y && !powerUp.isActive()) {
-                powerUp.activate();
-                break;
-            }
+        PowerUp powerUp = entities.pickablePowerUpAt(x, y);
+        if (powerUp != null) {
+            powerUp.activate();
         }
     }
 
@@ -415,12 +503,18 @@ public class GameBoard {
         // Reset board for next level
         initializeBoard();
         dots.clear();
+        entities.clearDots();
         powerUps.clear();
+        entities.clearPowerUps();
         remainingDots = 0;
     }
 
 
     public int[] generateRandomValidPosition() {
+        return generateRandomValidPosition(random);
+    }
+
+    public int[] generateRandomValidPosition(SplittableRandom random) {
         int x, y;
         boolean validPosition;
         do {
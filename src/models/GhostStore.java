@@ -0,0 +1,118 @@
+package models;
+
+import java.util.Arrays;
+
+// All ghosts of a game as parallel primitive arrays indexed by slot, so per-tick passes over
+// hundreds or thousands of ghosts walk flat arrays instead of chasing one object per ghost.
+// Enum values are stored as their ordinals; see Ghost for the enums themselves.
+// Ghosts move one cell per move, scared or not.
+public class GhostStore {
+    public static final byte NORMAL = (byte) Ghost.GhostState.NORMAL.ordinal();
+    public static final byte SCARED = (byte) Ghost.GhostState.SCARED.ordinal();
+    public static final byte DEAD = (byte) Ghost.GhostState.DEAD.ordinal();
+    public static final byte RETURNING = (byte) Ghost.GhostState.RETURNING.ordinal();
+
+    private static final Ghost.Direction[] DIRECTIONS = Ghost.Direction.values();
+    private static final Ghost.GhostType[] TYPES = Ghost.GhostType.values();
+    private static final Ghost.GhostState[] STATES = Ghost.GhostState.values();
+
+    private final int count;
+    private final int[] x, y;
+    private final int[] prevX, prevY; // position before the last move
+    private final byte[] direction;
+    private final byte[] type;
+    private final byte[] state;
+    private final boolean[] frozen;
+    private final long[] nextDropTick; // tick from which the ghost may drop a power-up again
+
+    public GhostStore(int count) {
+        this.count = count;
+        x = new int[count];
+        y = new int[count];
+        prevX = new int[count];
+        prevY = new int[count];
+        direction = new byte[count];
+        type = new byte[count];
+        state = new byte[count];
+        frozen = new boolean[count];
+        nextDropTick = new long[count];
+        Arrays.fill(direction, (byte) Ghost.Direction.RIGHT.ordinal());
+    }
+
+    public int size() { return count; }
+
+    // Places a new ghost in slot
+    public void spawn(int slot, int spawnX, int spawnY, Ghost.GhostType ghostType) {
+        type[slot] = (byte) ghostType.ordinal();
+        respawn(slot, spawnX, spawnY);
+        prevX[slot] = spawnX;
+        prevY[slot] = spawnY;
+    }
+
+    // Puts a ghost back at (spawnX, spawnY) as a normal ghost; it keeps its direction
+    public void respawn(int slot, int spawnX, int spawnY) {
+        x[slot] = spawnX;
+        y[slot] = spawnY;
+        state[slot] = NORMAL;
+        frozen[slot] = false;
+    }
+
+    public int getX(int slot) { return x[slot]; }
+    public int getY(int slot) { return y[slot]; }
+    public int getPrevX(int slot) { return prevX[slot]; }
+    public int getPrevY(int slot) { return prevY[slot]; }
+    public Ghost.Direction getDirection(int slot) { return DIRECTIONS[direction[slot]]; }
+    public void setDirection(int slot, Ghost.Direction dir) { direction[slot] = (byte) dir.ordinal(); }
+    public Ghost.GhostType getType(int slot) { return TYPES[type[slot]]; }
+    public Ghost.GhostState getState(int slot) { return STATES[state[slot]]; }
+    public boolean isScared(int slot) { return state[slot] == SCARED; }
+    public boolean isDead(int slot) { return state[slot] == DEAD; }
+    public boolean isReturning(int slot) { return state[slot] == RETURNING; }
+    public boolean isFrozen(int slot) { return frozen[slot]; }
+    public long getNextDropTick(int slot) { return nextDropTick[slot]; }
+    public void setNextDropTick(int slot, long tick) { nextDropTick[slot] = tick; }
+
+    // One cell in the ghost's direction, unless it is frozen or dead
+    public void move(int slot) {
+        if (frozen[slot] || state[slot] == DEAD) return;
+        switch (DIRECTIONS[direction[slot]]) {
+            case UP: y[slot]--; break;
+            case DOWN: y[slot]++; break;
+            case LEFT: x[slot]--; break;
+            case RIGHT: x[slot]++; break;
+        }
+    }
+
+    public void becomeReturning(int slot) {
+        state[slot] = RETURNING;
+        frozen[slot] = false;
+    }
+
+    // Remembers every ghost's position as the previous one, before the ghosts move
+    public void savePositions() {
+        System.arraycopy(x, 0, prevX, 0, count);
+        System.arraycopy(y, 0, prevY, 0, count);
+    }
+
+    public void scareAll() {
+        Arrays.fill(state, SCARED);
+        Arrays.fill(frozen, false);
+    }
+
+    public void calmAll() {
+        Arrays.fill(state, NORMAL);
+        Arrays.fill(frozen, false);
+    }
+
+    public void freezeAll() {
+        Arrays.fill(frozen, true);
+    }
+
+    public void unfreezeAll() {
+        Arrays.fill(frozen, false);
+    }
+
+    public void setNextDropTickAll(long tick) {
+        Arrays.fill(nextDropTick, tick);
+    }
+}
@@ -1,13 +1,16 @@
 package models;
 
+// Times are in simulation ticks of 100 ms
 public class PowerUp {
+    public static final int DESPAWN_TICKS = 100; // unpicked power-ups vanish after 10 seconds
+
     private int x;
     private int y;
     private PowerUpType type;
     private int duration;
     private boolean isActive;
     private int currentFrame;
-    private long spawnTime;
+    private long spawnTick;
 
     public enum PowerUpType {
         SPEED_BOOST,    // Increases Pacman's speed by 50% <- supposed to do that, is a blank powerup
@@ -18,14 +21,14 @@ public class PowerUp {
         INVINCIBILITY
     }
 
-    public PowerUp(int x, int y, PowerUpType type) {
+    public PowerUp(int x, int y, PowerUpType type, long spawnTick) {
         this.x = x;
         this.y = y;
         this.type = type;
         this.duration = 0;
         this.isActive = false;
         this.currentFrame = 0;
-        this.spawnTime = System.currentTimeMillis();
+        this.spawnTick = spawnTick;
     }
 
     // Getters and setters
@@ -41,25 +44,22 @@ public class PowerUp {
     public void setActive(boolean active) { isActive = active; }
     public int getCurrentFrame() { return currentFrame; }
     public void setCurrentFrame(int currentFrame) { this.currentFrame = currentFrame; }
-    public long getSpawnTime() { return spawnTime; }
-    public boolean shouldDespawn() {
-        return !isActive && (System.currentTimeMillis() - spawnTime) > 10000;
-    }
+    public long getSpawnTick() { return spawnTick; }
 
     public void activate() {
         this.isActive = true;
         switch (type) {
             case SPEED_BOOST:
-                this.duration = 5000; // 5 seconds
+                this.duration = 50; // 5 seconds
                 break;
             case GHOST_SCARE:
-                this.duration = 7000; // 7 seconds
+                this.duration = 70; // 7 seconds
                 break;
             case SCORE_MULTIPLIER:
-                this.duration = 10000; // 10 seconds
+                this.duration = 100; // 10 seconds
                 break;
             case GHOST_FREEZE:
-                this.duration = 3000; // 3 seconds
+                this.duration = 30; // 3 seconds
                 break;
             case EXTRA_LIFE:
                 this.duration = 0; // Instant effect
@@ -71,13 +71,4 @@ public class PowerUp {
         this.isActive = false;
         this.duration = 0;
     }
-
-    public void updateDuration(int deltaTime) {
-        if (isActive && duration > 0) {
-            duration -= deltaTime;
-            if (duration <= 0) {
-                deactivate();
-            }
-        }
-    }
 } 
\ No newline at end of file
@@ -0,0 +1,68 @@
+package util;
+
+// Fixed-timestep scheduling on GameClock nanoseconds. Elapsed time goes into an accumulator
+// that is paid out in whole ticks, so a late wake-up or a slow tick is made up by running the
+// missed ticks back to back instead of stretching the game. Catch-up is capped at
+// maxCatchUpTicks per advance(); time beyond that (a long GC pause, a suspended machine) is
+// dropped and counted as skipped ticks. Counters are written by the loop thread only.
+public class FixedTimestep {
+    private long stepNanos;
+    private int maxCatchUpTicks;
+
+    private long lastNanos;
+    private long accumulator;
+    private volatile long ticks;
+    private volatile long skippedTicks;
+    private volatile long overruns;
+
+    public FixedTimestep(long stepNanos, int maxCatchUpTicks, long now) {
+        this.stepNanos = stepNanos;
+        this.maxCatchUpTicks = maxCatchUpTicks;
+        reset(now);
+    }
+
+    // Changes the tick rate, e.g. for time warp; timing restarts from now
+    public void setStep(long stepNanos, int maxCatchUpTicks, long now) {
+        this.stepNanos = stepNanos;
+        this.maxCatchUpTicks = maxCatchUpTicks;
+        reset(now);
+    }
+
+    // Starts timing afresh, e.g. after a pause, so the paused time isn't caught up
+    public void reset(long now) {
+        lastNanos = now;
+        accumulator = 0;
+    }
+
+    // Adds the time since the last call and returns how many ticks to run now
+    public int advance(long now) {
+        accumulator += now - lastNanos;
+        lastNanos = now;
+        long due = accumulator / stepNanos;
+        if (due > maxCatchUpTicks) {
+            skippedTicks += due - maxCatchUpTicks;
+            accumulator -= (due - maxCatchUpTicks) * stepNanos;
+            due = maxCatchUpTicks;
+        }
+        accumulator -= due * stepNanos;
+        ticks += due;
+        return (int) due;
+    }
+
+    // Reports how long one tick took; ticks longer than the step are counted as overruns
+    public void tickFinished(long durationNanos) {
+        if (durationNanos > stepNanos) {
+            overruns++;
+        }
+    }
+
+    // Time left until the next tick is due, as of the last advance()
+    public long nanosUntilNextTick(long now) {
+        return Math.max(0, stepNanos - accumulator - (now - lastNanos));
+    }
+
+    public long getStepNanos() { return stepNanos; }
+    public long getTicks() { return ticks; }
+    public long getSkippedTicks() { return skippedTicks; }
+    public long getOverruns() { return overruns; }
+}
@@ -0,0 +1,68 @@
+package util;
+
+// The time source for everything paced in real time: the game loop's timestep, input
+// timestamps and frame interpolation. The simulation itself only counts ticks, so swapping
+// the clock changes how fast ticks come, never what they do. A pausable clock stops time for
+// the loop and the renderer alike; a manual one only moves when told to, for headless runs.
+public interface GameClock {
+    GameClock SYSTEM = System::nanoTime;
+
+    long nanoTime();
+
+    // Wraps another clock and stands still while paused; after resume() it carries on from
+    // where it stopped, so nothing sees the paused time pass
+    final class Pausable implements GameClock {
+        private final GameClock source;
+        private long pausedAt;
+        private long pausedTotal;
+        private boolean paused;
+
+        public Pausable(GameClock source) {
+            this.source = source;
+        }
+
+        @Override
+        public synchronized long nanoTime() {
+            return (paused ? pausedAt : source.nanoTime()) - pausedTotal;
+        }
+
+        public synchronized void pause() {
+            if (paused) return;
+            pausedAt = source.nanoTime();
+            paused = true;
+        }
+
+        public synchronized void resume() {
+            if (!paused) return;
+            pausedTotal += source.nanoTime() - pausedAt;
+            paused = false;
+        }
+
+        public synchronized boolean isPaused() {
+            return paused;
+        }
+    }
+
+    // Time that only moves when advanced
+    final class Manual implements GameClock {
+        private volatile long now;
+
+        public Manual(long start) {
+            now = start;
+        }
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        // Only one thread may advance the clock
+        public void advance(long nanos) {
+            now += nanos;
+        }
+
+        public void set(long nanos) {
+            now = nanos;
+        }
+    }
+}
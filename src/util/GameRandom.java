@@ -0,0 +1,55 @@
+package util;
+
+import java.util.SplittableRandom;
+
+// All randomness of one game, derived from a single seed so a run can be reproduced.
+// Each level gets its own seed, and from it independent streams for maze generation, ghost
+// AI and drops (power-ups, fruit and respawn positions). Streams depend only on the game seed
+// and the level, so a board generated ahead of time in the background is the same board the
+// level would otherwise have got, and drawing more from one stream never shifts another.
+public final class GameRandom {
+    private final long seed;
+
+    public GameRandom(long seed) {
+        this.seed = seed;
+    }
+
+    // A game with a fresh, unpredictable seed
+    public static GameRandom randomSeed() {
+        return new GameRandom(new SplittableRandom().nextLong());
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long levelSeed(int level) {
+        SplittableRandom levels = new SplittableRandom(seed);
+        long levelSeed = 0;
+        for (int i = 0; i < level; i++) {
+            levelSeed = levels.nextLong();
+        }
+        return levelSeed;
+    }
+
+    public SplittableRandom maze(int level) {
+        return stream(level, 0);
+    }
+
+    public SplittableRandom ghosts(int level) {
+        return stream(level, 1);
+    }
+
+    public SplittableRandom drops(int level) {
+        return stream(level, 2);
+    }
+
+    private SplittableRandom stream(int level, int index) {
+        SplittableRandom root = new SplittableRandom(levelSeed(level));
+        SplittableRandom stream = root.split();
+        for (int i = 0; i < index; i++) {
+            stream = root.split();
+        }
+        return stream;
+    }
+}
@@ -0,0 +1,63 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lock-free single-producer single-consumer queue of timestamped input codes, e.g. from the
+// EDT's key listener to the game loop. Both sides only publish their own index with an
+// ordered store, so neither ever blocks the other. When the consumer hasn't drained for a
+// whole queue's worth of input the newest events are dropped and counted.
+public class InputQueue {
+    public interface Sink {
+        void accept(int code, long timestampNanos);
+    }
+
+    private final int mask;
+    private final int[] codes;
+    private final long[] timestamps;
+    private final AtomicLong head = new AtomicLong(); // next to read, written by the consumer
+    private final AtomicLong tail = new AtomicLong(); // next to write, written by the producer
+    private volatile long dropped;
+
+    // capacity is rounded up to a power of two
+    public InputQueue(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        mask = size - 1;
+        codes = new int[size];
+        timestamps = new long[size];
+    }
+
+    // Producer: returns false, dropping the event, when the queue is full
+    public boolean offer(int code, long timestampNanos) {
+        long t = tail.get();
+        if (t - head.get() > mask) {
+            dropped++;
+            return false;
+        }
+        int slot = (int) (t & mask);
+        codes[slot] = code;
+        timestamps[slot] = timestampNanos;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    // Consumer: hands every queued event to sink, oldest first, and returns how many there were
+    public int drain(Sink sink) {
+        long h = head.get();
+        long t = tail.get();
+        for (long i = h; i < t; i++) {
+            int slot = (int) (i & mask);
+            sink.accept(codes[slot], timestamps[slot]);
+        }
+        head.lazySet(t);
+        return (int) (t - h);
+    }
+
+    // Consumer: throws away everything queued so far
+    public void clear() {
+        head.lazySet(tail.get());
+    }
+
+    public long getDropped() {
+        return dropped;
+    }
+}
@@ -0,0 +1,155 @@
+package util;
+
+import java.io.PrintStream;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Asynchronous levelled logging. Callers only check the level and queue the message template
+// with its arguments; "{}" placeholders are filled in and the line is written to the console
+// by a background thread. The queue is bounded and never blocks: when it is full the message
+// is dropped and counted, and the writer reports how many were lost. So the game loop never
+// waits on the console. A disabled level costs a comparison plus whatever it takes to pass the
+// arguments: primitives are boxed before the check, so calls on the tick path with int
+// arguments are wrapped in isEnabled().
+// Arguments are formatted later on the writer thread, so only pass values that don't change.
+// The threshold comes from -Dpacman.log=debug|info|warn|error (default info).
+public final class Log {
+    public enum Level { DEBUG, INFO, WARN, ERROR }
+
+    private static final int QUEUE_CAPACITY = 8192;
+
+    private static volatile Level threshold = parseLevel(System.getProperty("pacman.log", "info"));
+    private static final BlockingQueue<Entry> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private static final AtomicLong dropped = new AtomicLong();
+    // Writer state
+    private static final SimpleDateFormat TIME_FORMAT = new SimpleDateFormat("HH:mm:ss.SSS");
+    private static final StringBuilder line = new StringBuilder();
+
+    private static final class Entry {
+        final Level level;
+        final long timeMillis;
+        final String thread;
+        final String template;
+        final Object[] args;
+        final Throwable error;
+
+        Entry(Level level, String template, Object[] args, Throwable error) {
+            this.level = level;
+            this.timeMillis = System.currentTimeMillis();
+            this.thread = Thread.currentThread().getName();
+            this.template = template;
+            this.args = args;
+            this.error = error;
+        }
+    }
+
+    static {
+        Thread writer = new Thread(Log::writeLoop, "Log");
+        writer.setDaemon(true);
+        writer.start();
+        // Write out whatever is still queued when the JVM exits
+        Runtime.getRuntime().addShutdownHook(new Thread(Log::flush, "LogFlush"));
+    }
+
+    private Log() {}
+
+    public static boolean isEnabled(Level level) {
+        return level.compareTo(threshold) >= 0;
+    }
+
+    public static void setLevel(Level level) {
+        threshold = level;
+    }
+
+    // Fixed-arity overloads avoid a varargs array for the common cases
+    public static void debug(String message) { log(Level.DEBUG, message, null, null); }
+    public static void debug(String template, Object a) { if (isEnabled(Level.DEBUG)) log(Level.DEBUG, template, new Object[] {a}, null); }
+    public static void debug(String template, Object a, Object b) { if (isEnabled(Level.DEBUG)) log(Level.DEBUG, template, new Object[] {a, b}, null); }
+    public static void debug(String template, Object a, Object b, Object c) { if (isEnabled(Level.DEBUG)) log(Level.DEBUG, template, new Object[] {a, b, c}, null); }
+
+    public static void info(String message) { log(Level.INFO, message, null, null); }
+    public static void info(String template, Object a) { if (isEnabled(Level.INFO)) log(Level.INFO, template, new Object[] {a}, null); }
+    public static void info(String template, Object a, Object b) { if (isEnabled(Level.INFO)) log(Level.INFO, template, new Object[] {a, b}, null); }
+
+    public static void warn(String message) { log(Level.WARN, message, null, null); }
+    public static void warn(String template, Object a) { if (isEnabled(Level.WARN)) log(Level.WARN, template, new Object[] {a}, null); }
+
+    public static void error(String message, Throwable error) { log(Level.ERROR, message, null, error); }
+
+    private static void log(Level level, String template, Object[] args, Throwable error) {
+        if (!isEnabled(level)) return;
+        if (!queue.offer(new Entry(level, template, args, error))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private static void writeLoop() {
+        List<Entry> batch = new ArrayList<>();
+        while (true) {
+            try {
+                Entry first = queue.poll(1, TimeUnit.SECONDS);
+                if (first != null) batch.add(first);
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private static synchronized void flush() {
+        List<Entry> batch = new ArrayList<>();
+        queue.drainTo(batch);
+        write(batch);
+    }
+
+    // Only called by the writer thread, or by the shutdown hook once it no longer matters
+    private static synchronized void write(List<Entry> batch) {
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            System.err.println("[Log] " + lost + " messages dropped, the log queue was full");
+        }
+        for (Entry entry : batch) {
+            line.setLength(0);
+            line.append(TIME_FORMAT.format(new Date(entry.timeMillis)))
+                .append(' ').append(entry.level)
+                .append(" [").append(entry.thread).append("] ");
+            format(line, entry.template, entry.args);
+            PrintStream out = entry.level.compareTo(Level.WARN) >= 0 ? System.err : System.out;
+            out.println(line);
+            if (entry.error != null) {
+                entry.error.printStackTrace(out);
+            }
+        }
+    }
+
+    private static void format(StringBuilder out, String template, Object[] args) {
+        if (args == null) {
+            out.append(template);
+            return;
+        }
+        int arg = 0;
+        int from = 0;
+        int at;
+        while (arg < args.length && (at = template.indexOf("{}", from)) >= 0) {
+            out.append(template, from, at).append(args[arg++]);
+            from = at + 2;
+        }
+        out.append(template, from, template.length());
+    }
+
+    private static Level parseLevel(String name) {
+        try {
+            return Level.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Level.INFO;
+        }
+    }
+}
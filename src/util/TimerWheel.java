@@ -0,0 +1,102 @@
+package util;
+
+// Hashed timer wheel keyed on simulation ticks. Timers hang in doubly linked lists, one per
+// slot (deadline modulo the wheel size), so scheduling and cancelling are O(1) and advancing
+// a tick only visits that tick's slot: the per-tick cost follows the number of timers due,
+// not the number alive. Deadlines further away than the wheel size wait out extra rounds in
+// their slot. Single-threaded; tasks run inside advance() and may schedule or cancel timers.
+public class TimerWheel {
+    public static final class Timer {
+        private final Runnable task;
+        private long deadline;
+        private Timer prev, next;
+        private boolean scheduled;
+
+        private Timer(Runnable task) {
+            this.task = task;
+        }
+
+        public boolean isScheduled() { return scheduled; }
+        public long getDeadline() { return deadline; }
+    }
+
+    private final Timer[] slots;
+    private final int mask;
+    private long now;
+    private int size;
+
+    // wheelSize is rounded up to a power of two; make it cover the usual timer lengths
+    public TimerWheel(int wheelSize, long now) {
+        int length = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        slots = new Timer[length];
+        mask = length - 1;
+        this.now = now;
+    }
+
+    // A timer for task that isn't scheduled yet; it can be scheduled any number of times
+    public Timer newTimer(Runnable task) {
+        return new Timer(task);
+    }
+
+    public Timer schedule(long deadline, Runnable task) {
+        Timer timer = new Timer(task);
+        reschedule(timer, deadline);
+        return timer;
+    }
+
+    // (Re)schedules timer to fire at deadline, or on the next tick if that has already passed
+    public void reschedule(Timer timer, long deadline) {
+        cancel(timer);
+        timer.deadline = Math.max(deadline, now + 1);
+        int slot = (int) (timer.deadline & mask);
+        timer.next = slots[slot];
+        if (timer.next != null) timer.next.prev = timer;
+        slots[slot] = timer;
+        timer.scheduled = true;
+        size++;
+    }
+
+    public void cancel(Timer timer) {
+        if (!timer.scheduled) return;
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slots[(int) (timer.deadline & mask)] = timer.next;
+        }
+        if (timer.next != null) timer.next.prev = timer.prev;
+        timer.prev = timer.next = null;
+        timer.scheduled = false;
+        size--;
+    }
+
+    public void cancelAll() {
+        for (int slot = 0; slot < slots.length; slot++) {
+            while (slots[slot] != null) {
+                cancel(slots[slot]);
+            }
+        }
+    }
+
+    // Moves time forward to tick, running the tasks of every timer due on the way, tick by tick
+    public void advance(long tick) {
+        while (now < tick) {
+            now++;
+            if (size == 0) continue;
+            int slot = (int) (now & mask);
+            Timer timer = slots[slot];
+            while (timer != null) {
+                Timer next = timer.next;
+                if (timer.deadline == now) {
+                    cancel(timer);
+                    timer.task.run();
+                    // The task may have cancelled or moved the next timer; start over if so
+                    if (next != null && (!next.scheduled || (int) (next.deadline & mask) != slot)) next = slots[slot];
+                }
+                timer = next;
+            }
+        }
+    }
+
+    public long getNow() { return now; }
+    public int size() { return size; }
+}
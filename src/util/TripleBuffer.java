@@ -0,0 +1,53 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Lock-free hand-off of the latest value from one producer thread to one consumer thread.
+// Three preallocated slots rotate between the roles back (being written by the producer),
+// middle (latest published) and front (being read by the consumer). Neither side ever waits
+// for the other or allocates; the consumer simply skips values it was too slow to see.
+public class TripleBuffer<T> {
+    private static final int INDEX_MASK = 3;
+    private static final int FRESH = 4; // set on the middle index while it hasn't been acquired
+
+    private final Object[] slots;
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private int back = 0;  // producer only
+    private int front = 2; // consumer only
+
+    public TripleBuffer(T first, T second, T third) {
+        slots = new Object[] {first, second, third};
+    }
+
+    // Producer: the slot to fill before the next publish()
+    @SuppressWarnings("unchecked")
+    public T back() {
+        return (T) slots[back];
+    }
+
+    // Producer: makes the back slot the latest value and takes over the previous middle slot
+    public void publish() {
+        back = middle.getAndSet(back | FRESH) & INDEX_MASK;
+    }
+
+    // Consumer: true if something was published since the last acquire()
+    public boolean hasNew() {
+        return (middle.get() & FRESH) != 0;
+    }
+
+    // Consumer: switches to the latest published value if there is one and returns the current value.
+    // The previous value may be overwritten by the producer as soon as this returns.
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        if (hasNew()) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+        }
+        return (T) slots[front];
+    }
+
+    // Consumer: the value returned by the last acquire()
+    @SuppressWarnings("unchecked")
+    public T current() {
+        return (T) slots[front];
+    }
+}
@@ -0,0 +1,66 @@
+package views;
+
+// Collects board cells that need repainting so renderers only redraw what changed.
+// Cells can be marked from any thread (game loop, animation threads); the renderer
+// drains them in one go. Each cell is queued at most once between two drains.
+public class DirtyRegionTracker {
+    // Returned by drain() when the whole board has to be repainted
+    public static final int ALL = -1;
+
+    private final int rows;
+    private final int cols;
+    private final boolean[] marked;
+    private int[] pending;
+    private int[] draining;
+    private int count;
+    private boolean allDirty;
+
+    public DirtyRegionTracker(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.marked = new boolean[rows * cols];
+        this.pending = new int[rows * cols];
+        this.draining = new int[rows * cols];
+    }
+
+    public synchronized void markCell(int row, int col) {
+        if (allDirty || row < 0 || col < 0 || row >= rows || col >= cols) return;
+        int index = row * cols + col;
+        if (!marked[index]) {
+            marked[index] = true;
+            pending[count++] = index;
+        }
+    }
+
+    public synchronized void markAll() {
+        allDirty = true;
+    }
+
+    public synchronized boolean isEmpty() {
+        return !allDirty && count == 0;
+    }
+
+    // Hands the marked cells (as row * cols + col) to the caller and starts a new round.
+    // Returns the number of cells in getDrained(), or ALL if the whole board is dirty.
+    public synchronized int drain() {
+        int drained = allDirty ? ALL : count;
+        for (int i = 0; i < count; i++) {
+            marked[pending[i]] = false;
+        }
+        int[] swap = draining;
+        draining = pending;
+        pending = swap;
+        count = 0;
+        allDirty = false;
+        return drained;
+    }
+
+    // Cells from the last drain(); only valid until the next drain()
+    public int[] getDrained() {
+        return draining;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+}
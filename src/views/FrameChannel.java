@@ -0,0 +1,136 @@
+package views;
+
+import models.GameBoard;
+import util.GameClock;
+import util.TripleBuffer;
+
+import java.util.Arrays;
+
+// Carries FrameSnapshots from the game loop (producer) to the renderer (consumer) through a
+// triple buffer, so neither side locks or waits and the renderer never sees live models.
+// The consumer only ever gets the latest frame, so board changes can't simply travel with the
+// tick they happened in: the producer keeps every change until it learns that a frame holding
+// it was acquired, and each frame carries all changes the consumer hasn't seen yet.
+public class FrameChannel {
+    // Beyond this many unacknowledged changes a full board copy is sent instead
+    private static final int MAX_PENDING_CHANGES = 4096;
+
+    private final int cols;
+    private final TripleBuffer<FrameSnapshot> buffer =
+        new TripleBuffer<>(new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot());
+    private volatile long consumedTick = -1;
+
+    // Producer state
+    private long tick;
+    private GameBoard.Cell[][] liveBoard;
+    private GameBoard.Cell[][] pendingBoard;
+    private long pendingBoardTick;
+    private int pendingCount;
+    private int[] pendingCells = new int[64];
+    private GameBoard.Cell[] pendingValues = new GameBoard.Cell[64];
+    private long[] pendingTicks = new long[64];
+
+    // Frames are stamped with the game loop's clock, which the renderer interpolates against
+    private final GameClock clock;
+
+    public FrameChannel(int cols, GameClock clock) {
+        this.cols = cols;
+        this.clock = clock;
+    }
+
+    // Producer: shows a new board from the next frame on. The renderer gets a private copy,
+    // so the game can keep changing its own cells; later changes go through cellChanged().
+    public void setBoard(GameBoard.Cell[][] cells) {
+        liveBoard = cells;
+        pendingBoard = copyOf(cells);
+        pendingBoardTick = tick;
+        pendingCount = 0;
+    }
+
+    // Producer: the board cell at (x, y) now holds the given value
+    public void cellChanged(int x, int y, GameBoard.Cell cell) {
+        if (pendingCount == MAX_PENDING_CHANGES && liveBoard != null) {
+            // The renderer hasn't kept up for a long time; resend everything instead
+            setBoard(liveBoard);
+            return;
+        }
+        if (pendingCount == pendingCells.length) {
+            int capacity = pendingCount * 2;
+            pendingCells = Arrays.copyOf(pendingCells, capacity);
+            pendingValues = Arrays.copyOf(pendingValues, capacity);
+            pendingTicks = Arrays.copyOf(pendingTicks, capacity);
+        }
+        pendingCells[pendingCount] = y * cols + x;
+        pendingValues[pendingCount] = cell;
+        pendingTicks[pendingCount] = tick;
+        pendingCount++;
+    }
+
+    // Producer: the snapshot to fill for this tick
+    public FrameSnapshot beginFrame() {
+        return buffer.back();
+    }
+
+    // Producer: stamps the frame filled since beginFrame() with the unseen board changes and publishes it
+    public void publish() {
+        FrameSnapshot frame = buffer.back();
+        long consumed = consumedTick;
+        dropConsumedChanges(consumed);
+        if (pendingBoard != null && pendingBoardTick <= consumed) {
+            pendingBoard = null;
+        }
+        frame.tick = tick;
+        frame.publishedAtNanos = clock.nanoTime();
+        frame.board = pendingBoard;
+        frame.ensureChangedCapacity(pendingCount);
+        System.arraycopy(pendingCells, 0, frame.changedCells, 0, pendingCount);
+        System.arraycopy(pendingValues, 0, frame.changedValues, 0, pendingCount);
+        frame.changedCount = pendingCount;
+        buffer.publish();
+        tick++;
+    }
+
+    private void dropConsumedChanges(long consumed) {
+        int first = 0;
+        while (first < pendingCount && pendingTicks[first] <= consumed) {
+            first++;
+        }
+        if (first == 0) return;
+        int remaining = pendingCount - first;
+        System.arraycopy(pendingCells, first, pendingCells, 0, remaining);
+        System.arraycopy(pendingValues, first, pendingValues, 0, remaining);
+        System.arraycopy(pendingTicks, first, pendingTicks, 0, remaining);
+        Arrays.fill(pendingValues, remaining, pendingCount, null);
+        pendingCount = remaining;
+    }
+
+    private static GameBoard.Cell[][] copyOf(GameBoard.Cell[][] cells) {
+        GameBoard.Cell[][] copy = new GameBoard.Cell[cells.length][];
+        for (int row = 0; row < cells.length; row++) {
+            copy[row] = cells[row].clone();
+        }
+        return copy;
+    }
+
+    // Consumer: true if a newer frame than current() was published
+    public boolean hasNewFrame() {
+        return buffer.hasNew();
+    }
+
+    // Consumer: the frame to render until the next call to acquire(). current() must not be
+    // used after this returns, the producer may already be overwriting it.
+    public FrameSnapshot acquire() {
+        FrameSnapshot frame = buffer.acquire();
+        consumedTick = frame.tick;
+        return frame;
+    }
+
+    // Consumer: the frame returned by the last acquire(), or an empty one before the first
+    public FrameSnapshot current() {
+        return buffer.current();
+    }
+
+    public GameClock getClock() {
+        return clock;
+    }
+}
@@ -0,0 +1,123 @@
+package views;
+
+import models.Fruit;
+import models.GameBoard;
+import models.GhostStore;
+import models.Pacman;
+import models.PowerUp;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Everything the renderer needs from one simulation tick, copied into plain values: entity
+// positions (current and previous tick, for interpolation), their sprite state and the board
+// cells that changed. The game loop fills one through FrameChannel; once published it is only
+// read. Arrays are reused from tick to tick and only grow, so capturing doesn't allocate.
+public final class FrameSnapshot {
+    static final int GHOST_NORMAL = 0;
+    static final int GHOST_SCARED = 1;
+    static final int GHOST_RETURNING = 2;
+
+    long tick = -1;
+    long publishedAtNanos;
+    long tickIntervalNanos;
+
+    boolean hasPacman;
+    int pacmanX, pacmanY;
+    int pacmanPrevX, pacmanPrevY;
+    int pacmanDirection; // SpriteAtlas direction index, -1 when Pacman has no direction yet
+    boolean pacmanMoving;
+
+    // Per ghost slot; none while the ghosts are hidden (e.g. during the death animation)
+    int ghostCount;
+    int[] ghostX = new int[4], ghostY = new int[4];
+    int[] ghostPrevX = new int[4], ghostPrevY = new int[4];
+    int[] ghostDirection = new int[4];
+    int[] ghostColor = new int[4];
+    int[] ghostState = new int[4];
+
+    // Power-ups still waiting to be picked up, oldest first
+    int powerUpCount;
+    int[] powerUpX = new int[8], powerUpY = new int[8];
+    PowerUp.PowerUpType[] powerUpType = new PowerUp.PowerUpType[8];
+
+    Fruit.FruitType fruitType; // null when there is no fruit
+    int fruitX, fruitY;
+
+    // A whole board to show, or null when the consumer already has it; see FrameChannel
+    GameBoard.Cell[][] board;
+    // Cells (row * cols + col) changed since the consumer's last frame, in order of change
+    int changedCount;
+    int[] changedCells = new int[64];
+    GameBoard.Cell[] changedValues = new GameBoard.Cell[64];
+
+    // Copies the entities; ghosts is null while they are hidden
+    public void capture(Pacman pacman, boolean pacmanMoving, int prevPacmanX, int prevPacmanY,
+                        GhostStore ghosts, List<PowerUp> powerUps, Fruit fruit, long tickIntervalNanos) {
+        this.tickIntervalNanos = tickIntervalNanos;
+
+        hasPacman = pacman != null;
+        if (pacman != null) {
+            pacmanX = pacman.getX();
+            pacmanY = pacman.getY();
+            pacmanPrevX = prevPacmanX;
+            pacmanPrevY = prevPacmanY;
+            pacmanDirection = pacman.getDirection() != null ? SpriteAtlas.directionIndex(pacman.getDirection()) : -1;
+            this.pacmanMoving = pacmanMoving;
+        }
+
+        ghostCount = ghosts != null ? ghosts.size() : 0;
+        ensureGhostCapacity(ghostCount);
+        for (int slot = 0; slot < ghostCount; slot++) {
+            ghostX[slot] = ghosts.getX(slot);
+            ghostY[slot] = ghosts.getY(slot);
+            ghostPrevX[slot] = ghosts.getPrevX(slot);
+            ghostPrevY[slot] = ghosts.getPrevY(slot);
+            ghostDirection[slot] = SpriteAtlas.directionIndex(ghosts.getDirection(slot));
+            ghostColor[slot] = SpriteAtlas.colorIndex(ghosts.getType(slot));
+            ghostState[slot] = ghosts.isReturning(slot) ? GHOST_RETURNING : ghosts.isScared(slot) ? GHOST_SCARED : GHOST_NORMAL;
+        }
+
+        powerUpCount = 0;
+        if (powerUps != null) {
+            for (int i = 0; i < powerUps.size(); i++) {
+                PowerUp powerUp = powerUps.get(i);
+                if (powerUp.isActive()) continue;
+                if (powerUpCount == powerUpX.length) {
+                    int capacity = powerUpCount * 2;
+                    powerUpX = Arrays.copyOf(powerUpX, capacity);
+                    powerUpY = Arrays.copyOf(powerUpY, capacity);
+                    powerUpType = Arrays.copyOf(powerUpType, capacity);
+                }
+                powerUpX[powerUpCount] = powerUp.getX();
+                powerUpY[powerUpCount] = powerUp.getY();
+                powerUpType[powerUpCount] = powerUp.getType();
+                powerUpCount++;
+            }
+        }
+
+        fruitType = fruit != null ? fruit.getType() : null;
+        if (fruit != null) {
+            fruitX = fruit.getX();
+            fruitY = fruit.getY();
+        }
+    }
+
+    private void ensureGhostCapacity(int count) {
+        if (count <= ghostX.length) return;
+        ghostX = Arrays.copyOf(ghostX, count);
+        ghostY = Arrays.copyOf(ghostY, count);
+        ghostPrevX = Arrays.copyOf(ghostPrevX, count);
+        ghostPrevY = Arrays.copyOf(ghostPrevY, count);
+        ghostDirection = Arrays.copyOf(ghostDirection, count);
+        ghostColor = Arrays.copyOf(ghostColor, count);
+        ghostState = Arrays.copyOf(ghostState, count);
+    }
+
+    void ensureChangedCapacity(int count) {
+        if (count <= changedCells.length) return;
+        int capacity = Math.max(count, changedCells.length * 2);
+        changedCells = Arrays.copyOf(changedCells, capacity);
+        changedValues = Arrays.copyOf(changedValues, capacity);
+    }
+}
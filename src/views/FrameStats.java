@@ -0,0 +1,93 @@
+package views;
+
+import util.FixedTimestep;
+import util.LatencyHistogram;
+
+import javax.swing.SwingUtilities;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Live timing statistics for the game: render FPS plus percentiles of the simulation tick,
+// paint duration and EDT queue latency, and the game loop's skipped and overrun ticks. Recording never allocates or locks.
+// Histograms cover a rolling window: whoever reads the stats after the window has passed
+// publishes the percentiles of that window and starts a new one.
+public class FrameStats {
+    private static final long WINDOW_NS = 2_000_000_000L;
+
+    private final LatencyHistogram tickTimes = new LatencyHistogram();
+    private final LatencyHistogram paintTimes = new LatencyHistogram();
+    private final LatencyHistogram edtLatency = new LatencyHistogram();
+    private final AtomicLong frames = new AtomicLong();
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+
+    // EDT latency probe: one reusable task, only one in flight at a time
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile long probePostedAt;
+    private final Runnable probeTask = () -> {
+        edtLatency.record(System.nanoTime() - probePostedAt);
+        probeInFlight.set(false);
+    };
+
+    // Published results of the last complete window: [p50, p95, p99] in nanoseconds
+    private volatile long[] tickPercentiles = new long[3];
+    private volatile long[] paintPercentiles = new long[3];
+    private volatile long[] edtPercentiles = new long[3];
+    private volatile double fps;
+
+    // The game loop's scheduler, for its tick counters; null until a game runs
+    private volatile FixedTimestep timestep;
+
+    public void recordTick(long nanos) {
+        tickTimes.record(nanos);
+    }
+
+    public void recordPaint(long nanos) {
+        paintTimes.record(nanos);
+        frames.incrementAndGet();
+    }
+
+    // Measures how long a task waits in the EDT queue; call from a non-EDT thread
+    public void probeEdtLatency() {
+        if (probeInFlight.compareAndSet(false, true)) {
+            probePostedAt = System.nanoTime();
+            SwingUtilities.invokeLater(probeTask);
+        }
+    }
+
+    public void setTimestep(FixedTimestep timestep) {
+        this.timestep = timestep;
+    }
+
+    // Totals since the game loop started: ticks dropped because catch-up was capped, and
+    // ticks that took longer than the tick interval
+    public long getSkippedTicks() {
+        FixedTimestep t = timestep;
+        return t != null ? t.getSkippedTicks() : 0;
+    }
+
+    public long getOverruns() {
+        FixedTimestep t = timestep;
+        return t != null ? t.getOverruns() : 0;
+    }
+
+    public long[] getTickPercentiles() { roll(); return tickPercentiles; }
+    public long[] getPaintPercentiles() { roll(); return paintPercentiles; }
+    public long[] getEdtLatencyPercentiles() { roll(); return edtPercentiles; }
+    public double getFps() { roll(); return fps; }
+
+    private void roll() {
+        long start = windowStart.get();
+        long now = System.nanoTime();
+        if (now - start < WINDOW_NS || !windowStart.compareAndSet(start, now)) return;
+        tickPercentiles = percentiles(tickTimes);
+        paintPercentiles = percentiles(paintTimes);
+        edtPercentiles = percentiles(edtLatency);
+        fps = frames.getAndSet(0) * 1e9 / (now - start);
+    }
+
+    private static long[] percentiles(LatencyHistogram histogram) {
+        long[] result = {histogram.percentile(50), histogram.percentile(95), histogram.percentile(99)};
+        histogram.reset();
+        return result;
+    }
+}
@@ -0,0 +1,438 @@
+package views;
+
+import models.GameBoard;
+
+import java.awt.Canvas;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+// Active-rendering alternative to the JTable board: draws the whole grid in one pass
+// into a BufferStrategy from its own render thread instead of going through Swing
+// cell renderers and table model events.
+// In interpolating mode Pacman and ghosts are drawn on top of the board at positions
+// blended between the last two simulation ticks, and frames follow the display refresh rate.
+// Boards that don't fit on screen at the current zoom are drawn through a camera that follows
+// Pacman: only the visible cells are painted, over wall chunks baked on demand.
+public class GameCanvas extends Canvas {
+    private static final long serialVersionUID = 1L;
+    private static final long DEFAULT_FRAME_INTERVAL_NS = 1_000_000_000L / 60; // ~60 FPS
+
+    // Zoom levels: AUTO fits the board while cells stay readable and switches to the camera
+    // otherwise, FIT always scales the whole board to the window, positive values are cell sizes
+    public static final int ZOOM_AUTO = -1;
+    public static final int ZOOM_FIT = 0;
+    private static final int MIN_FIT_CELL_SIZE = 8;
+    private static final int DEFAULT_CAMERA_CELL_SIZE = 24;
+    private static final int MIN_CELL_SIZE = 4;
+    private static final int MAX_CELL_SIZE = 64;
+    // Camera wall chunks are about this many pixels square; only the most recently used are kept
+    private static final int CHUNK_PIXELS = 512;
+    private static final int MAX_CACHED_CHUNKS = 48;
+
+    private final GameView view;
+    private final GameView.GameBoardModel boardModel;
+    // Only touched by the render thread
+    private final SpriteCache spriteCache = new SpriteCache();
+    private int cachedCellSize = -1;
+    // Walls baked into one image at the current cell size
+    private BufferedImage staticLayer;
+    private int staticLayerVersion = -1;
+    // Static layer plus dots and entities, updated only where cells are dirty
+    private BufferedImage boardImage;
+    // Camera path: walls baked per chunk of chunkCells x chunkCells cells, keyed by chunk index
+    private final Map<Integer, BufferedImage> wallChunks = new LinkedHashMap<Integer, BufferedImage>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, BufferedImage> eldest) {
+            return size() > MAX_CACHED_CHUNKS;
+        }
+    };
+    private int chunkCells;
+    private int wallChunksVersion = -1;
+    // Top-left corner of the visible area in board pixels; negative when the board is centered
+    private int originX;
+    private int originY;
+    private int lastWidth;
+    private int lastHeight;
+    private volatile int zoom = ZOOM_AUTO;
+    // Set when AWT asks for a repaint, e.g. after the window was uncovered
+    private volatile boolean exposed = true;
+    private Thread renderThread;
+    private volatile boolean running = false;
+    // While suspended the render thread is parked and only wakes to redraw an uncovered window
+    private volatile boolean suspended = false;
+    private final boolean interpolate;
+    private long frameIntervalNs = DEFAULT_FRAME_INTERVAL_NS;
+    private final float[] position = new float[2];
+
+    public GameCanvas(GameView view, GameView.GameBoardModel boardModel, boolean interpolate) {
+        this.view = view;
+        this.boardModel = boardModel;
+        this.interpolate = interpolate;
+        setBackground(Color.BLACK);
+        // Keep keyboard focus on the frame where the game key listener lives
+        setFocusable(false);
+    }
+
+    public void start() {
+        if (renderThread != null && renderThread.isAlive()) return;
+        if (getBufferStrategy() == null) {
+            createBufferStrategy(2);
+        }
+        if (interpolate) {
+            frameIntervalNs = displayFrameInterval();
+        }
+        running = true;
+        renderThread = new Thread(this::renderLoop, "GameCanvas-render");
+        renderThread.setDaemon(true);
+        renderThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (renderThread != null) {
+            renderThread.interrupt();
+        }
+    }
+
+    public void setSuspended(boolean suspended) {
+        this.suspended = suspended;
+        if (!suspended) wakeRenderThread();
+    }
+
+    private void wakeRenderThread() {
+        Thread thread = renderThread;
+        if (thread != null) LockSupport.unpark(thread);
+    }
+
+    // Render as often as the screen refreshes, falling back to 60 Hz when unknown
+    private long displayFrameInterval() {
+        try {
+            int refreshRate = getGraphicsConfiguration().getDevice().getDisplayMode().getRefreshRate();
+            if (refreshRate > 0) {
+                return 1_000_000_000L / refreshRate;
+            }
+        } catch (RuntimeException e) {
+            // Headless or no display mode information
+        }
+        return DEFAULT_FRAME_INTERVAL_NS;
+    }
+
+    // Zoom controls, called from the EDT; the render thread picks the new size up on its next frame
+    public void zoomIn() {
+        int cellSize = currentCellSize();
+        setZoom(Math.max(cellSize + 1, cellSize * 5 / 4));
+    }
+
+    public void zoomOut() {
+        int cellSize = currentCellSize();
+        setZoom(Math.min(cellSize - 1, cellSize * 4 / 5));
+    }
+
+    public void zoomToFit() {
+        zoom = ZOOM_FIT;
+    }
+
+    private void setZoom(int cellSize) {
+        zoom = Math.max(MIN_CELL_SIZE, Math.min(MAX_CELL_SIZE, cellSize));
+    }
+
+    private int currentCellSize() {
+        int rows = boardModel.getRowCount();
+        int cols = boardModel.getColumnCount();
+        return rows > 0 && cols > 0 ? cellSizeFor(rows, cols) : DEFAULT_CAMERA_CELL_SIZE;
+    }
+
+    // System repaints only request a frame; all drawing happens on the render thread
+    @Override
+    public void paint(Graphics g) {
+        exposed = true;
+        if (suspended) wakeRenderThread();
+    }
+
+    @Override
+    public void update(Graphics g) {
+        exposed = true;
+        if (suspended) wakeRenderThread();
+    }
+
+    private void renderLoop() {
+        long nextFrame = System.nanoTime();
+        while (running) {
+            if (suspended && !exposed) {
+                LockSupport.park(this);
+                nextFrame = System.nanoTime();
+                continue;
+            }
+            // Pick up the game loop's latest frame; this marks the cells that changed
+            view.acquireFrame();
+            // Nothing moved and nothing was uncovered: the last frame is still valid.
+            // Interpolated movement and the stats overlay change every frame, so they always render.
+            if (interpolate || view.isStatsOverlayVisible() || exposed || !view.getDirtyRegions().isEmpty() || layoutChanged()) {
+                exposed = false;
+                render();
+            }
+            nextFrame += frameIntervalNs;
+            long sleepNs = nextFrame - System.nanoTime();
+            if (sleepNs > 0) {
+                try {
+                    Thread.sleep(sleepNs / 1_000_000L, (int) (sleepNs % 1_000_000L));
+                } catch (InterruptedException e) {
+                    break;
+                }
+            } else {
+                // Fell behind (e.g. window was hidden); don't try to catch up on frames
+                nextFrame = System.nanoTime();
+            }
+        }
+    }
+
+    private void render() {
+        BufferStrategy strategy = getBufferStrategy();
+        if (strategy == null || !isDisplayable()) return;
+        long start = System.nanoTime();
+        do {
+            do {
+                Graphics g = strategy.getDrawGraphics();
+                try {
+                    paintBoard(g);
+                } finally {
+                    g.dispose();
+                }
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+        Toolkit.getDefaultToolkit().sync();
+        view.getFrameStats().recordPaint(System.nanoTime() - start);
+    }
+
+    private int cellSizeFor(int rows, int cols) {
+        int fit = Math.max(1, Math.min(getWidth() / cols, getHeight() / rows));
+        int z = zoom;
+        if (z == ZOOM_FIT || (z == ZOOM_AUTO && fit >= MIN_FIT_CELL_SIZE)) return fit;
+        return z == ZOOM_AUTO ? DEFAULT_CAMERA_CELL_SIZE : z;
+    }
+
+    private boolean fitsOnScreen(int rows, int cols, int cellSize) {
+        return cols * cellSize <= getWidth() && rows * cellSize <= getHeight();
+    }
+
+    private boolean layoutChanged() {
+        int rows = boardModel.getRowCount();
+        int cols = boardModel.getColumnCount();
+        if (rows == 0 || cols == 0) return false;
+        int version = boardModel.getMazeVersion();
+        return cellSizeFor(rows, cols) != cachedCellSize || getWidth() != lastWidth || getHeight() != lastHeight
+            || (staticLayer != null ? staticLayerVersion != version : wallChunksVersion != version);
+    }
+
+    private void paintBoard(Graphics g) {
+        int rows = boardModel.getRowCount();
+        int cols = boardModel.getColumnCount();
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, getWidth(), getHeight());
+        if (rows == 0 || cols == 0) return;
+
+        int cellSize = cellSizeFor(rows, cols);
+        if (cellSize != cachedCellSize) {
+            spriteCache.clear();
+            cachedCellSize = cellSize;
+            staticLayer = null;
+            boardImage = null;
+            wallChunks.clear();
+        }
+        lastWidth = getWidth();
+        lastHeight = getHeight();
+
+        float alpha = interpolate ? view.tickAlpha() : 1f;
+        if (fitsOnScreen(rows, cols, cellSize)) {
+            paintWholeBoard(g, rows, cols, cellSize);
+        } else {
+            paintCameraView(g, rows, cols, cellSize, alpha);
+        }
+
+        if (interpolate) {
+            paintMovers(g, cellSize, alpha);
+        }
+        view.paintStatsOverlay(g);
+    }
+
+    // The whole board is on screen: keep a full board image and only touch its dirty cells
+    private void paintWholeBoard(Graphics g, int rows, int cols, int cellSize) {
+        DirtyRegionTracker dirtyRegions = view.getDirtyRegions();
+        int version = boardModel.getMazeVersion();
+        originX = 0;
+        originY = 0;
+        wallChunks.clear();
+        if (staticLayer == null || staticLayerVersion != version) {
+            staticLayer = bakeWalls(0, 0, rows, cols, cellSize);
+            staticLayerVersion = version;
+            boardImage = createBoardImage(staticLayer.getWidth(), staticLayer.getHeight());
+            dirtyRegions.markAll();
+        }
+
+        // Bring the board image up to date, touching only the dirty cells
+        int count = dirtyRegions.drain();
+        Graphics2D bg = boardImage.createGraphics();
+        try {
+            if (count == DirtyRegionTracker.ALL) {
+                bg.drawImage(staticLayer, 0, 0, null);
+                for (int row = 0; row < rows; row++) {
+                    for (int col = 0; col < cols; col++) {
+                        drawCellSprite(bg, row, col, cellSize, col * cellSize, row * cellSize);
+                    }
+                }
+            } else {
+                int[] cells = dirtyRegions.getDrained();
+                for (int i = 0; i < count; i++) {
+                    int row = cells[i] / cols;
+                    int col = cells[i] % cols;
+                    int x = col * cellSize;
+                    int y = row * cellSize;
+                    // Restore the maze underneath, then draw whatever is on the cell now
+                    bg.drawImage(staticLayer, x, y, x + cellSize, y + cellSize, x, y, x + cellSize, y + cellSize, null);
+                    drawCellSprite(bg, row, col, cellSize, x, y);
+                }
+            }
+        } finally {
+            bg.dispose();
+        }
+        g.drawImage(boardImage, 0, 0, null);
+    }
+
+    // The board is larger than the window: center the camera on Pacman and draw only the
+    // cells inside it. Work per frame depends on the window size, not on the board size.
+    private void paintCameraView(Graphics g, int rows, int cols, int cellSize, float alpha) {
+        // Everything visible is redrawn each frame, so pending dirty cells are simply consumed
+        view.getDirtyRegions().drain();
+        staticLayer = null;
+        boardImage = null;
+        int version = boardModel.getMazeVersion();
+        if (wallChunksVersion != version) {
+            wallChunks.clear();
+            wallChunksVersion = version;
+        }
+
+        int width = getWidth();
+        int height = getHeight();
+        float focusX = (cols - 1) / 2f;
+        float focusY = (rows - 1) / 2f;
+        if (view.cameraFocus(alpha, interpolate, position)) {
+            focusX = position[0];
+            focusY = position[1];
+        }
+        originX = cameraOrigin(focusX, cellSize, width, cols * cellSize);
+        originY = cameraOrigin(focusY, cellSize, height, rows * cellSize);
+
+        // Walls, one cached chunk at a time
+        chunkCells = Math.max(1, CHUNK_PIXELS / cellSize);
+        int chunkPixels = chunkCells * cellSize;
+        int chunkCols = (cols + chunkCells - 1) / chunkCells;
+        int chunkRows = (rows + chunkCells - 1) / chunkCells;
+        int firstChunkCol = Math.max(0, Math.floorDiv(originX, chunkPixels));
+        int lastChunkCol = Math.min(chunkCols - 1, Math.floorDiv(originX + width - 1, chunkPixels));
+        int firstChunkRow = Math.max(0, Math.floorDiv(originY, chunkPixels));
+        int lastChunkRow = Math.min(chunkRows - 1, Math.floorDiv(originY + height - 1, chunkPixels));
+        for (int chunkRow = firstChunkRow; chunkRow <= lastChunkRow; chunkRow++) {
+            for (int chunkCol = firstChunkCol; chunkCol <= lastChunkCol; chunkCol++) {
+                BufferedImage chunk = wallChunk(chunkRow, chunkCol, chunkCols, rows, cols, cellSize);
+                g.drawImage(chunk, chunkCol * chunkPixels - originX, chunkRow * chunkPixels - originY, null);
+            }
+        }
+
+        // Dots and entities of the visible cells
+        int firstCol = Math.max(0, Math.floorDiv(originX, cellSize));
+        int lastCol = Math.min(cols - 1, Math.floorDiv(originX + width - 1, cellSize));
+        int firstRow = Math.max(0, Math.floorDiv(originY, cellSize));
+        int lastRow = Math.min(rows - 1, Math.floorDiv(originY + height - 1, cellSize));
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                drawCellSprite(g, row, col, cellSize, col * cellSize - originX, row * cellSize - originY);
+            }
+        }
+    }
+
+    // Keeps the focus cell centered, clamped so the camera never shows past the board edge.
+    // An axis that fits on screen is centered instead.
+    private static int cameraOrigin(float focus, int cellSize, int viewSize, int boardSize) {
+        if (boardSize <= viewSize) return -(viewSize - boardSize) / 2;
+        int origin = Math.round((focus + 0.5f) * cellSize) - viewSize / 2;
+        return Math.max(0, Math.min(boardSize - viewSize, origin));
+    }
+
+    private BufferedImage wallChunk(int chunkRow, int chunkCol, int chunkCols, int rows, int cols, int cellSize) {
+        Integer key = chunkRow * chunkCols + chunkCol;
+        BufferedImage chunk = wallChunks.get(key);
+        if (chunk == null) {
+            int firstRow = chunkRow * chunkCells;
+            int firstCol = chunkCol * chunkCells;
+            chunk = bakeWalls(firstRow, firstCol, Math.min(chunkCells, rows - firstRow), Math.min(chunkCells, cols - firstCol), cellSize);
+            wallChunks.put(key, chunk);
+        }
+        return chunk;
+    }
+
+    // Ghosts, then Pacman on top, at positions blended between the previous and current tick
+    private void paintMovers(Graphics g, int cellSize, float alpha) {
+        int ghostSlots = view.ghostSlots();
+        for (int slot = 0; slot < ghostSlots; slot++) {
+            if (!view.interpolatedGhost(slot, alpha, position)) continue;
+            drawAt(g, view.ghostSprite(slot), cellSize);
+        }
+        if (view.interpolatedPacman(alpha, position)) {
+            drawAt(g, view.pacmanSprite(), cellSize);
+        }
+    }
+
+    private void drawAt(Graphics g, BufferedImage sprite, int cellSize) {
+        int x = Math.round(position[0] * cellSize) - originX;
+        int y = Math.round(position[1] * cellSize) - originY;
+        // Off-screen movers are culled
+        if (x + cellSize <= 0 || y + cellSize <= 0 || x >= getWidth() || y >= getHeight()) return;
+        BufferedImage scaled = spriteCache.getImage(sprite, cellSize, cellSize);
+        if (scaled != null) {
+            g.drawImage(scaled, x, y, null);
+        }
+    }
+
+    private void drawCellSprite(Graphics g, int row, int col, int cellSize, int x, int y) {
+        GameBoard.Cell cell = boardModel.getCell(row, col);
+        if (cell == GameBoard.Cell.WALL) return;
+        BufferedImage sprite = spriteCache.getImage(view.spriteForCell(row, col, cell, !interpolate), cellSize, cellSize);
+        if (sprite != null) {
+            g.drawImage(sprite, x, y, null);
+        }
+    }
+
+    private BufferedImage createBoardImage(int width, int height) {
+        return getGraphicsConfiguration() != null
+            ? getGraphicsConfiguration().createCompatibleImage(width, height)
+            : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+    }
+
+    // Walls of a rectangle of cells, drawn on black
+    private BufferedImage bakeWalls(int firstRow, int firstCol, int rowCount, int colCount, int cellSize) {
+        BufferedImage layer = createBoardImage(colCount * cellSize, rowCount * cellSize);
+        Graphics2D g2d = layer.createGraphics();
+        g2d.setColor(Color.BLACK);
+        g2d.fillRect(0, 0, layer.getWidth(), layer.getHeight());
+        BufferedImage wall = spriteCache.getImage(view.getWallImage(), cellSize, cellSize);
+        if (wall != null) {
+            for (int row = 0; row < rowCount; row++) {
+                for (int col = 0; col < colCount; col++) {
+                    if (boardModel.getCell(firstRow + row, firstCol + col) == GameBoard.Cell.WALL) {
+                        g2d.drawImage(wall, col * cellSize, row * cellSize, null);
+                    }
+                }
+            }
+        }
+        g2d.dispose();
+        return layer;
+    }
+}
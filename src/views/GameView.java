@@ -1,27 +1,30 @@
 package views;
 
 import models.GameBoard;
-import models.Pacman;
-import models.Ghost;
 import models.Dot;
 import models.PowerUp;
-import models.Fruit;
+import util.GameClock;
 
 import javax.swing.*;
 import javax.swing.table.AbstractTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 import java.awt.event.ActionEvent;
 import javax.swing.KeyStroke;
-import java.util.List;
-import java.util.ArrayList;
 
 public class GameView extends JFrame {
+    // How the maze is drawn: Swing JTable cells or the active-rendering canvas
+    public enum RenderMode {
+        TABLE,
+        CANVAS,
+        // Canvas that moves Pacman and ghosts smoothly between simulation ticks
+        INTERPOLATED_CANVAS
+    }
+
+    private final RenderMode renderMode;
     private JTable gameBoard;
+    private GameCanvas gameCanvas;
     private GameBoardModel boardModel;
     private JLabel scoreLabel;
     private JLabel livesLabel;
@@ -29,110 +32,126 @@ public class GameView extends JFrame {
     private JLabel levelLabel;
     private JLabel powerUpLabel;
     private JLabel activePowerUpsLabel;
-    private BufferedImage pacmanIdleImage;
-    private BufferedImage[][] pacmanAnimImages = new BufferedImage[4][2]; // [direction][frame]
-    private int pacmanAnimFrame = 0;
-    private Pacman.Direction pacmanAnimDirection = Pacman.Direction.RIGHT;
-    private BufferedImage dotImage;
-    private BufferedImage powerDotImage;
-    private BufferedImage wallImage;
-    private BufferedImage scaredGhostImage;
-    private BufferedImage[] powerUpImages;  // Array of power-up images
-    private Pacman pacman;
-    private Ghost[] ghosts;
-    private boolean pacmanIsMoving = false;
-    private Thread pacmanAnimThread;
+    private JLabel noticeLabel;
+    private final SpriteAtlas sprites;
+    private volatile int pacmanAnimFrame = 0;
+    private volatile Thread pacmanAnimThread;
     private volatile boolean animRunning = false;
-    private BufferedImage[] pacmanDeathFrames = new BufferedImage[14]; // 0=start, 1-11=frame1..frame11
+    // While paused nothing animates and the canvas only draws when uncovered
+    private volatile boolean paused = false;
+    // Death sprites followed by two blank steps where Pacman has vanished
+    private static final int PACMAN_DEATH_STEPS = SpriteAtlas.PACMAN_DEATH_FRAMES + 2;
     private volatile boolean pacmanDeathActive = false;
     private volatile int pacmanDeathFrameIdx = 0;
     private volatile int pacmanDeathX = 0, pacmanDeathY = 0;
     public final Object deathAnimLock = new Object();
-    private List<PowerUp> powerUps;
-    private BufferedImage[] ghostEyesDirectional = new BufferedImage[4]; // right, left, up, down
-    // Ghost animation: [color][direction][frame]
-    private BufferedImage[][][] ghostAnimImages = new BufferedImage[4][4][2];
-    private int ghostAnimFrame = 0;
-    private Fruit currentFruit = null;
-    private BufferedImage[] fruitImages = new BufferedImage[4]; // cherry, strawberry, apple, peach
+    // Parked between death steps while paused, so a pause holds off the respawn
+    private volatile Thread pacmanDeathThread;
+    private volatile int ghostAnimFrame = 0;
+    // Bumped by the animation thread so the renderer repaints the animated sprites
+    private volatile int animGeneration = 0;
+    // Game state arrives as snapshots from the game loop. The fields below belong to the
+    // thread that renders: the EDT for the table, the render thread for the canvas.
+    private final FrameChannel frames;
+    private GameBoard.Cell[][] shownBoard;
+    private int shownAnimGeneration;
+    // Cell index of the current frame: lowest ghost slot (-1 if none) and oldest pickable power-up
+    private final int[] ghostAtCell;
+    private final PowerUp.PowerUpType[] powerUpAtCell;
+    private final SpriteCache spriteCache = new SpriteCache();
+    // Cells waiting to be repainted, shared by both renderers
+    private DirtyRegionTracker dirtyRegions;
+    private final java.util.concurrent.atomic.AtomicBoolean flushPending = new java.util.concurrent.atomic.AtomicBoolean();
+    private final Runnable flushTask = this::paintDirtyRegions;
+    // Frame timing overlay
+    private static final Font STATS_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color STATS_BACKGROUND = new Color(0, 0, 0, 180);
+    private FrameStats frameStats = new FrameStats();
+    private volatile boolean statsOverlayVisible = false;
+    private Timer statsOverlayTimer;
+    private String[] statsOverlayLines;
+    private long statsOverlayBuiltAt;
+    private boolean flushingDirtyRegions = false;
+    // Baked wall layer for the JTable renderer, only touched on the EDT
+    private BufferedImage staticLayer;
+    private int staticLayerVersion = -1;
+    // Status bar snapshot waiting for the EDT, and the one currently shown (EDT only)
+    private final java.util.concurrent.atomic.AtomicReference<HudSnapshot> pendingHud = new java.util.concurrent.atomic.AtomicReference<>();
+    private final Runnable applyHudTask = this::applyHud;
+    private HudSnapshot shownHud;
 
     public GameView(int rows, int cols) {
+        this(rows, cols, RenderMode.TABLE, GameClock.SYSTEM);
+    }
+
+    // clock is the game loop's, so moving sprites keep pace with the ticks
+    public GameView(int rows, int cols, RenderMode renderMode, GameClock clock) {
+        this.renderMode = renderMode;
         setTitle("Pacman - Game");
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setResizable(true);
 
-        // Load images
-        try {
-            // Idle
-            pacmanIdleImage = ImageIO.read(new File("assets/pacman/pacmandefault.png"));
-            
-            // Animated frames for each direction
-            String[] dirs = {"right", "left", "up", "down"};
-            for (int d = 0; d < 4; d++) {
-                for (int f = 0; f < 2; f++) {
-                    pacmanAnimImages[d][f] = ImageIO.read(new File("assets/pacman/" + dirs[d] + "/frame" + (f+1) + ".png"));
-                }
+        // Sprites are decoded once at startup, this only waits for the preload if needed
+        sprites = SpriteAtlas.getInstance();
+        setIconImage(sprites.favicon());
+
+        // Create game board model
+        boardModel = new GameBoardModel(rows, cols);
+        dirtyRegions = new DirtyRegionTracker(rows, cols);
+        frames = new FrameChannel(cols, clock);
+        ghostAtCell = new int[rows * cols];
+        java.util.Arrays.fill(ghostAtCell, -1);
+        powerUpAtCell = new PowerUp.PowerUpType[rows * cols];
+        // Route cell updates through the tracker instead of per-event repaints
+        boardModel.addTableModelListener(e -> {
+            if (e.getType() == javax.swing.event.TableModelEvent.UPDATE && e.getFirstRow() == e.getLastRow()
+                    && e.getColumn() != javax.swing.event.TableModelEvent.ALL_COLUMNS && e.getFirstRow() >= 0) {
+                dirtyRegions.markCell(e.getFirstRow(), e.getColumn());
+            } else {
+                dirtyRegions.markAll();
             }
-            // Ghost animation frames
-            String[] colors = {"redghost", "pinkghost", "blueghost", "orangeghost"};
-            for (int c = 0; c < 4; c++) {
-                for (int d = 0; d < 4; d++) {
-                    for (int f = 0; f < 2; f++) {
-                        String path = "assets/ghosts/" + colors[c] + "/" + dirs[d] + "/frame" + (f+1) + ".png";
-                        ghostAnimImages[c][d][f] = ImageIO.read(new File(path));
+            flushDirtyRegions();
+        });
+        if (renderMode != RenderMode.TABLE) {
+            gameCanvas = new GameCanvas(this, boardModel, renderMode == RenderMode.INTERPOLATED_CANVAS);
+        } else {
+            gameBoard = new JTable(boardModel) {
+                @Override
+                public void tableChanged(javax.swing.event.TableModelEvent e) {
+                    // Single cell updates are repainted through the dirty region tracker
+                    if (e.getType() == javax.swing.event.TableModelEvent.UPDATE && e.getFirstRow() == e.getLastRow()
+                            && e.getColumn() != javax.swing.event.TableModelEvent.ALL_COLUMNS && e.getFirstRow() >= 0) {
+                        return;
                     }
+                    super.tableChanged(e);
                 }
-            }
-            // Death animation
-            pacmanDeathFrames[0] = ImageIO.read(new File("assets/pacman/death/start.png"));
-            for (int i = 1; i <= 11; i++) {
-                pacmanDeathFrames[i] = ImageIO.read(new File("assets/pacman/death/frame" + i + ".png"));
-            }
 
-            dotImage = ImageIO.read(new File("assets/food.png"));
-            powerDotImage = ImageIO.read(new File("assets/powerFood.png"));
-            wallImage = ImageIO.read(new File("assets/wall.png"));
-            scaredGhostImage = ImageIO.read(new File("assets/ghosts/scared/frame1.png")); // Use frame1 for static scared
-            // Load directional ghost eyes
-            ghostEyesDirectional[0] = ImageIO.read(new File("assets/ghosts/eyes/right/frame1.png"));
-            ghostEyesDirectional[1] = ImageIO.read(new File("assets/ghosts/eyes/left/frame1.png"));
-            ghostEyesDirectional[2] = ImageIO.read(new File("assets/ghosts/eyes/up/frame1.png"));
-            ghostEyesDirectional[3] = ImageIO.read(new File("assets/ghosts/eyes/down/frame1.png"));
-            
-            // Load power-up images
-            powerUpImages = new BufferedImage[6];
-            powerUpImages[0] = ImageIO.read(new File("assets/powerups/speed.png"));
-            powerUpImages[1] = ImageIO.read(new File("assets/powerups/scare.png"));
-            powerUpImages[2] = ImageIO.read(new File("assets/powerups/life.png"));
-            powerUpImages[3] = ImageIO.read(new File("assets/powerups/score.png"));
-            powerUpImages[4] = ImageIO.read(new File("assets/powerups/freeze.png"));
-            powerUpImages[5] = ImageIO.read(new File("assets/powerups/shield.png"));
-
-            // Load fruit images
-            fruitImages[0] = ImageIO.read(new File("assets/fruits/cherry.png"));
-            fruitImages[1] = ImageIO.read(new File("assets/fruits/strawberry.png"));
-            fruitImages[2] = ImageIO.read(new File("assets/fruits/apple.png"));
-            fruitImages[3] = ImageIO.read(new File("assets/fruits/peach.png"));
-
-            setIconImage(ImageIO.read(new File("assets/favicon.png")));
-        } catch (IOException e) {
-            e.printStackTrace();
+                @Override
+                protected void paintComponent(Graphics g) {
+                    long start = System.nanoTime();
+                    // Blit the baked walls once, cells then only draw dots and entities
+                    paintStaticLayer(g);
+                    super.paintComponent(g);
+                    // Dirty cell flushes are timed as a whole in paintDirtyRegions
+                    if (!flushingDirtyRegions) {
+                        frameStats.recordPaint(System.nanoTime() - start);
+                    }
+                }
+            };
+            // The static layer provides the background, so the table must not clear it
+            gameBoard.setOpaque(false);
+            gameBoard.setRowHeight(20);
+            gameBoard.setIntercellSpacing(new Dimension(0, 0));
+            gameBoard.setShowGrid(false);
+            gameBoard.setFocusable(true);
+            gameBoard.requestFocusInWindow();
+
+            // Set custom cell renderer
+            gameBoard.setDefaultRenderer(Object.class, new GameCellRenderer());
+
+            // Set background colors to black
+            gameBoard.setBackground(Color.BLACK);
         }
-
-        // Create game board model
-        boardModel = new GameBoardModel(rows, cols);
-        gameBoard = new JTable(boardModel);
-        gameBoard.setRowHeight(20);
-        gameBoard.setIntercellSpacing(new Dimension(0, 0));
-        gameBoard.setShowGrid(false);
-        gameBoard.setFocusable(true);
-        gameBoard.requestFocusInWindow();
-
-        // Set custom cell renderer
-        gameBoard.setDefaultRenderer(Object.class, new GameCellRenderer());
-
-        // Set background colors to black
-        gameBoard.setBackground(Color.BLACK);
         getContentPane().setBackground(Color.BLACK);
 
         // Create status panel
@@ -145,23 +164,28 @@ public class GameView extends JFrame {
         powerUpLabel.setForeground(Color.YELLOW);
         activePowerUpsLabel = new JLabel("");
         activePowerUpsLabel.setForeground(Color.BLACK);
+        noticeLabel = new JLabel("");
+        noticeLabel.setForeground(Color.BLUE);
         statusPanel.add(scoreLabel);
         statusPanel.add(livesLabel);
         statusPanel.add(timeLabel);
         statusPanel.add(levelLabel);
         statusPanel.add(powerUpLabel);
         statusPanel.add(activePowerUpsLabel);
+        statusPanel.add(noticeLabel);
 
         // Add components to frame
         setLayout(new BorderLayout());
-        add(gameBoard, BorderLayout.CENTER);
+        add(gameCanvas != null ? gameCanvas : gameBoard, BorderLayout.CENTER);
         add(statusPanel, BorderLayout.SOUTH);
 
-        // Set frame size based on board size
+        // Set frame size based on board size, no larger than the screen; the canvas
+        // renderer follows Pacman with a camera when the board doesn't fit
         int cellSize = 20;
         int width = cols * cellSize + 20;
         int height = rows * cellSize + 100;
-        setSize(width, height);
+        java.awt.Rectangle screen = java.awt.GraphicsEnvironment.getLocalGraphicsEnvironment().getMaximumWindowBounds();
+        setSize(Math.min(width, screen.width), Math.min(height, screen.height));
         setLocationRelativeTo(null);
 
         // Make sure the frame can receive key events
@@ -186,22 +210,63 @@ public class GameView extends JFrame {
             }
         });
 
+        // F3 toggles the frame timing overlay
+        getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke("F3"), "toggleStatsOverlay");
+        getRootPane().getActionMap().put("toggleStatsOverlay", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                setStatsOverlayVisible(!statsOverlayVisible);
+            }
+        });
+        // Canvas zoom: +/- change the cell size, 0 fits the whole board in the window
+        if (gameCanvas != null) {
+            bindKey("zoomIn", () -> gameCanvas.zoomIn(), "PLUS", "EQUALS", "ADD");
+            bindKey("zoomOut", () -> gameCanvas.zoomOut(), "MINUS", "SUBTRACT");
+            bindKey("zoomToFit", () -> gameCanvas.zoomToFit(), "0", "NUMPAD0");
+        }
+        // The table renderer shows the overlay on the glass pane; the canvas draws it itself
+        if (gameBoard != null) {
+            JComponent overlay = new JComponent() {
+                @Override
+                protected void paintComponent(Graphics g) {
+                    paintStatsOverlay(g);
+                }
+            };
+            setGlassPane(overlay);
+            statsOverlayTimer = new Timer(500, e -> overlay.repaint());
+        }
+
         // Start Pacman animation thread
         addWindowListener(new java.awt.event.WindowAdapter() {
             @Override
             public void windowOpened(java.awt.event.WindowEvent e) {
                 startPacmanAnimThread();
+                if (gameCanvas != null) gameCanvas.start();
             }
             @Override
             public void windowClosed(java.awt.event.WindowEvent e) {
                 stopPacmanAnimThread();
+                if (statsOverlayTimer != null) statsOverlayTimer.stop();
+                if (gameCanvas != null) gameCanvas.stop();
             }
         });
+    }
 
-        powerUps = new ArrayList<>();
+    private void bindKey(String name, Runnable action, String... keys) {
+        for (String key : keys) {
+            getRootPane().getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(key), name);
+        }
+        getRootPane().getActionMap().put(name, new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                action.run();
+            }
+        });
     }
 
     private void resizeGameBoard() {
+        // The canvas derives its cell size from its own bounds on every frame
+        if (gameBoard == null) return;
         int availableWidth = getContentPane().getWidth();
         int availableHeight = getContentPane().getHeight() - 40; // Subtract status panel height
         int cellWidth = availableWidth / boardModel.getColumnCount();
@@ -211,142 +276,264 @@ public class GameView extends JFrame {
         for (int i = 0; i < gameBoard.getColumnCount(); i++) {
             gameBoard.getColumnModel().getColumn(i).setPreferredWidth(cellSize);
         }
+        // Scaled sprites for the old cell size are no longer needed
+        spriteCache.clear();
+    }
+
+    // Picks the sprite drawn in a cell on top of the baked maze layer; entities take
+    // precedence over the tile underneath. Walls are never returned, they live in the layer.
+    // Shared by the JTable cell renderer and the active-rendering canvas.
+    BufferedImage spriteForCell(int row, int column, GameBoard.Cell cell) {
+        return spriteForCell(row, column, cell, true);
+    }
+
+    // With includeMovers false Pacman and ghosts are left out, for renderers that draw
+    // them separately at interpolated positions
+    BufferedImage spriteForCell(int row, int column, GameBoard.Cell cell, boolean includeMovers) {
+        // Draw Pacman death animation if active (always takes precedence)
+        if (pacmanDeathActive && pacmanDeathX == column && pacmanDeathY == row) {
+            return sprites.pacmanDeath(pacmanDeathFrameIdx);
+        }
+        FrameSnapshot frame = frames.current();
+        // Draw Pacman if at this cell (only if not in death animation)
+        if (includeMovers && frame.hasPacman && frame.pacmanX == column && frame.pacmanY == row && !pacmanDeathActive) {
+            return pacmanSprite();
+        }
+        int index = row * boardModel.getColumnCount() + column;
+        // Draw ghost if at this cell
+        if (includeMovers && ghostAtCell[index] >= 0) {
+            return ghostSprite(ghostAtCell[index]);
+        }
+
+        // Draw power-ups
+        PowerUp.PowerUpType powerUpType = powerUpAtCell[index];
+        if (powerUpType != null) {
+            return sprites.powerUp(powerUpType);
+        }
+
+        // Draw fruit if present
+        if (frame.fruitType != null && frame.fruitX == column && frame.fruitY == row) {
+            return sprites.fruit(frame.fruitType);
+        }
+
+        if (cell != null) {
+            switch (cell) {
+                case DOT:
+                    return sprites.dot();
+                case POWER_DOT:
+                    return sprites.powerDot();
+                default:
+                    return null;
+            }
+        }
+        return null;
+    }
+
+    // Walls baked into one image for the JTable; rebuilt on a new maze or a new table size
+    private void paintStaticLayer(Graphics g) {
+        int width = gameBoard.getWidth();
+        int height = gameBoard.getHeight();
+        if (width <= 0 || height <= 0) return;
+        int version = boardModel.getMazeVersion();
+        if (staticLayer == null || staticLayerVersion != version
+                || staticLayer.getWidth() != width || staticLayer.getHeight() != height) {
+            staticLayer = bakeStaticLayer(width, height);
+            staticLayerVersion = version;
+        }
+        g.drawImage(staticLayer, 0, 0, null);
+    }
+
+    private BufferedImage bakeStaticLayer(int width, int height) {
+        BufferedImage layer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = layer.createGraphics();
+        g2d.setColor(Color.BLACK);
+        g2d.fillRect(0, 0, width, height);
+        for (int row = 0; row < boardModel.getRowCount(); row++) {
+            for (int col = 0; col < boardModel.getColumnCount(); col++) {
+                if (boardModel.getCell(row, col) != GameBoard.Cell.WALL) continue;
+                Rectangle r = gameBoard.getCellRect(row, col, true);
+                BufferedImage wall = spriteCache.getImage(sprites.wall(), r.width, r.height);
+                if (wall != null) {
+                    g2d.drawImage(wall, r.x, r.y, null);
+                }
+            }
+        }
+        g2d.dispose();
+        return layer;
+    }
+
+    public void setFrameStats(FrameStats frameStats) {
+        this.frameStats = frameStats;
+    }
+
+    public FrameStats getFrameStats() {
+        return frameStats;
+    }
+
+    public void setPaused(boolean paused) {
+        if (this.paused == paused) return;
+        this.paused = paused;
+        if (paused) {
+            stopPacmanAnimThread();
+            if (statsOverlayTimer != null) statsOverlayTimer.stop();
+        } else {
+            // The death animation restarts the animation itself once it is done
+            if (isDisplayable() && !pacmanDeathActive) startPacmanAnimThread();
+            Thread deathThread = pacmanDeathThread;
+            if (deathThread != null) java.util.concurrent.locks.LockSupport.unpark(deathThread);
+            if (statsOverlayTimer != null && statsOverlayVisible) statsOverlayTimer.start();
+        }
+        if (gameCanvas != null) gameCanvas.setSuspended(paused);
+    }
+
+    public boolean isStatsOverlayVisible() {
+        return statsOverlayVisible;
+    }
+
+    public void setStatsOverlayVisible(boolean visible) {
+        statsOverlayVisible = visible;
+        if (statsOverlayTimer != null) {
+            getGlassPane().setVisible(visible);
+            if (visible) statsOverlayTimer.start();
+            else statsOverlayTimer.stop();
+        }
+    }
+
+    // Draws FPS and p50/p95/p99 timings in the top-left corner; the text is rebuilt at most twice a second
+    void paintStatsOverlay(Graphics g) {
+        if (!statsOverlayVisible) return;
+        long now = System.nanoTime();
+        if (statsOverlayLines == null || now - statsOverlayBuiltAt > 500_000_000L) {
+            statsOverlayLines = new String[] {
+                String.format("FPS: %.1f", frameStats.getFps()),
+                "Tick  " + formatPercentiles(frameStats.getTickPercentiles()),
+                "Paint " + formatPercentiles(frameStats.getPaintPercentiles()),
+                "EDT   " + formatPercentiles(frameStats.getEdtLatencyPercentiles()),
+                "Skipped ticks: " + frameStats.getSkippedTicks() + "  overruns: " + frameStats.getOverruns()
+            };
+            statsOverlayBuiltAt = now;
+        }
+        g.setFont(STATS_FONT);
+        int lineHeight = g.getFontMetrics().getHeight();
+        g.setColor(STATS_BACKGROUND);
+        g.fillRect(4, 4, 260, lineHeight * statsOverlayLines.length + 8);
+        g.setColor(Color.GREEN);
+        for (int i = 0; i < statsOverlayLines.length; i++) {
+            g.drawString(statsOverlayLines[i], 10, 4 + lineHeight * (i + 1));
+        }
+    }
+
+    private static String formatPercentiles(long[] nanos) {
+        return String.format("p50 %.2f  p95 %.2f  p99 %.2f ms", nanos[0] / 1e6, nanos[1] / 1e6, nanos[2] / 1e6);
+    }
+
+    DirtyRegionTracker getDirtyRegions() {
+        return dirtyRegions;
+    }
+
+    BufferedImage getWallImage() {
+        return sprites.wall();
+    }
+
+    BufferedImage pacmanSprite() {
+        FrameSnapshot frame = frames.current();
+        if (frame.pacmanMoving && frame.pacmanDirection >= 0) {
+            return sprites.pacman(frame.pacmanDirection, pacmanAnimFrame);
+        }
+        return sprites.pacmanIdle();
+    }
+
+    BufferedImage ghostSprite(int slot) {
+        FrameSnapshot frame = frames.current();
+        switch (frame.ghostState[slot]) {
+            case FrameSnapshot.GHOST_RETURNING:
+                // Directional ghost eyes
+                return sprites.ghostEyes(frame.ghostDirection[slot]);
+            case FrameSnapshot.GHOST_SCARED:
+                // Animate scared ghost
+                return sprites.scaredGhost(ghostAnimFrame);
+            default:
+                // Animated ghost
+                return sprites.ghost(frame.ghostColor[slot], frame.ghostDirection[slot], ghostAnimFrame);
+        }
+    }
+
+    // Fraction of the current tick that has elapsed, 0..1
+    float tickAlpha() {
+        FrameSnapshot frame = frames.current();
+        if (frame.tickIntervalNanos <= 0) return 1f;
+        long now = frames.getClock().nanoTime();
+        return Math.min(1f, Math.max(0f, (now - frame.publishedAtNanos) / (float) frame.tickIntervalNanos));
+    }
+
+    // Fills out[0..1] with the interpolated cell position of Pacman; false if nothing to draw
+    boolean interpolatedPacman(float alpha, float[] out) {
+        FrameSnapshot frame = frames.current();
+        if (!frame.hasPacman || pacmanDeathActive) return false;
+        interpolate(frame.pacmanPrevX, frame.pacmanPrevY, frame.pacmanX, frame.pacmanY, alpha, out);
+        return true;
+    }
+
+    // Cell position the canvas camera follows: Pacman, blended between ticks when smooth.
+    // Unlike interpolatedPacman() this keeps following him while the death animation plays.
+    boolean cameraFocus(float alpha, boolean smooth, float[] out) {
+        FrameSnapshot frame = frames.current();
+        if (!frame.hasPacman) return false;
+        if (smooth) {
+            interpolate(frame.pacmanPrevX, frame.pacmanPrevY, frame.pacmanX, frame.pacmanY, alpha, out);
+        } else {
+            out[0] = frame.pacmanX;
+            out[1] = frame.pacmanY;
+        }
+        return true;
+    }
+
+    // Same for the ghost in the given slot
+    boolean interpolatedGhost(int slot, float alpha, float[] out) {
+        FrameSnapshot frame = frames.current();
+        if (slot >= frame.ghostCount) return false;
+        interpolate(frame.ghostPrevX[slot], frame.ghostPrevY[slot], frame.ghostX[slot], frame.ghostY[slot], alpha, out);
+        return true;
+    }
+
+    // Jumps of more than one cell (respawns, level changes) are not interpolated
+    private static void interpolate(int fromX, int fromY, int toX, int toY, float alpha, float[] out) {
+        if (Math.abs(toX - fromX) + Math.abs(toY - fromY) > 1) {
+            out[0] = toX;
+            out[1] = toY;
+        } else {
+            out[0] = fromX + (toX - fromX) * alpha;
+            out[1] = fromY + (toY - fromY) * alpha;
+        }
+    }
+
+    int ghostSlots() {
+        return frames.current().ghostCount;
     }
 
     private class GameCellRenderer extends DefaultTableCellRenderer {
+        GameCellRenderer() {
+            // Let the baked maze layer show through empty cells
+            setOpaque(false);
+        }
+
         @Override
         public Component getTableCellRendererComponent(JTable table, Object value,
                 boolean isSelected, boolean hasFocus, int row, int column) {
             Component c = super.getTableCellRendererComponent(table, value, isSelected, hasFocus, row, column);
             setIcon(null);
             setText("");
-            setBackground(Color.BLACK);
             setBorder(javax.swing.BorderFactory.createEmptyBorder());
 
             int cellWidth = table.getColumnModel().getColumn(column).getWidth();
             int cellHeight = table.getRowHeight(row);
 
-            // Helper to scale and set icon with nearest-neighbor
-            java.util.function.Consumer<BufferedImage> setScaledIcon = img -> {
-                if (img != null && cellWidth > 0 && cellHeight > 0) {
-                    BufferedImage scaled = new BufferedImage(cellWidth, cellHeight, BufferedImage.TYPE_INT_ARGB);
-                    Graphics2D g2d = scaled.createGraphics();
-                    g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
-                    g2d.drawImage(img, 0, 0, cellWidth, cellHeight, null);
-                    g2d.dispose();
-                    setIcon(new ImageIcon(scaled));
-                }
-            };
-
-            // Draw Pacman death animation if active (always takes precedence)
-            if (pacmanDeathActive && pacmanDeathX == column && pacmanDeathY == row) {
-                setScaledIcon.accept(pacmanDeathFrames[pacmanDeathFrameIdx]);
-                return c;
-            }
-            // Draw Pacman if at this cell (only if not in death animation)
-            if (pacman != null && pacman.getX() == column && pacman.getY() == row && !pacmanDeathActive) {
-                BufferedImage img = pacmanIdleImage;
-                if (pacmanIsMoving && pacman.getDirection() != null) {
-                    int dirIdx = 0;
-                    switch (pacmanAnimDirection) {
-                        case RIGHT: dirIdx = 0; break;
-                        case LEFT: dirIdx = 1; break;
-                        case UP: dirIdx = 2; break;
-                        case DOWN: dirIdx = 3; break;
-                    }
-                    img = pacmanAnimImages[dirIdx][pacmanAnimFrame % 2];
-                }
-                setScaledIcon.accept(img);
-                return c;
+            GameBoard.Cell cell = value instanceof GameBoard.Cell ? (GameBoard.Cell) value : null;
+            // Set the cached nearest-neighbor scaled sprite as the cell icon
+            ImageIcon icon = spriteCache.getIcon(spriteForCell(row, column, cell), cellWidth, cellHeight);
+            if (icon != null) {
+                setIcon(icon);
             }
-            // Draw ghost if at this cell
-            if (ghosts != null) {
-                for (int i = 0; i < ghosts.length; i++) {
-                    if (ghosts[i] != null && ghosts[i].getX() == column && ghosts[i].getY() == row) {
-                        if (ghosts[i].isReturning()) {
-                            // Directional ghost eyes
-                            int dirIdx = 0;
-                            switch (ghosts[i].getDirection()) {
-                                case RIGHT: dirIdx = 0; break;
-                                case LEFT: dirIdx = 1; break;
-                                case UP: dirIdx = 2; break;
-                                case DOWN: dirIdx = 3; break;
-                            }
-                            setScaledIcon.accept(ghostEyesDirectional[dirIdx]);
-                        } else if (ghosts[i].isScared()) {
-                            // Animate scared ghost
-                            int frame = ghostAnimFrame % 2;
-                            BufferedImage scaredFrame = null;
-                            try {
-                                scaredFrame = ImageIO.read(new File("assets/ghosts/scared/frame" + (frame+1) + ".png"));
-                            } catch (IOException e) {
-                                scaredFrame = scaredGhostImage;
-                            }
-                            setScaledIcon.accept(scaredFrame);
-                        } else {
-                            // Animated ghost
-                            int colorIdx = 0;
-                            switch (ghosts[i].getType()) {
-                                case RED: colorIdx = 0; break;
-                                case PINK: colorIdx = 1; break;
-                                case BLUE: colorIdx = 2; break;
-                                case ORANGE: colorIdx = 3; break;
-                            }
-                            int dirIdx = 0;
-                            switch (ghosts[i].getDirection()) {
-                                case RIGHT: dirIdx = 0; break;
-                                case LEFT: dirIdx = 1; break;
-                                case UP: dirIdx = 2; break;
-                                case DOWN: dirIdx = 3; break;
-                            }
-                            int frame = ghostAnimFrame % 2;
-                            setScaledIcon.accept(ghostAnimImages[colorIdx][dirIdx][frame]);
-                        }
-                        return c;
-                    }
-                }
-            }
-
-            // Draw power-ups
-            if (gameBoard != null) {
-                for (PowerUp powerUp : new ArrayList<>(powerUps)) {
-                    if (powerUp.getX() == column && powerUp.getY() == row && !powerUp.isActive()) {
-                        setScaledIcon.accept(powerUpImages[powerUp.getType().ordinal()]);
-                        return c;
-                    }
-                }
-            }
-
-            // Draw fruit if present
-            if (currentFruit != null && currentFruit.getX() == column && currentFruit.getY() == row) {
-                int idx = 0;
-                switch (currentFruit.getType()) {
-                    case CHERRY: idx = 0; break;
-                    case STRAWBERRY: idx = 1; break;
-                    case APPLE: idx = 2; break;
-                    case PEACH: idx = 3; break;
-                }
-                setScaledIcon.accept(fruitImages[idx]);
-                return c;
-            }
-
-            if (value instanceof GameBoard.Cell) {
-                GameBoard.Cell cell = (GameBoard.Cell) value;
-                switch (cell) {
-                    case WALL:
-                        setScaledIcon.accept(wallImage);
-                        break;
-                    case DOT:
-                        setScaledIcon.accept(dotImage);
-                        break;
-                    case POWER_DOT:
-                        setScaledIcon.accept(powerDotImage);
-                        break;
-                    default:
-                        setIcon(null);
-                }
-            }
-
             return c;
         }
     }
@@ -356,6 +543,7 @@ public class GameView extends JFrame {
         private final int rows;
         private final int cols;
         private GameBoard.Cell[][] data;
+        private volatile int mazeVersion = 0;
 
         public GameBoardModel(int rows, int cols) {
             this.rows = rows;
@@ -388,10 +576,35 @@ public class GameView extends JFrame {
         }
 
         public void setCell(int row, int col, GameBoard.Cell cell) {
+            // Walls only change when a new board is loaded; that invalidates the baked maze layer
+            if ((data[row][col] == GameBoard.Cell.WALL) != (cell == GameBoard.Cell.WALL)) {
+                mazeVersion++;
+            }
             data[row][col] = cell;
             fireTableCellUpdated(row, col);
         }
 
+        // Shows a whole new board in O(1): the model reads the board's cell array directly
+        // from now on, and renderers repaint everything once
+        public void setBoard(GameBoard.Cell[][] cells) {
+            data = cells;
+            mazeVersion++;
+            fireTableDataChanged();
+        }
+
+        // Incremented whenever a cell turns into or stops being a wall
+        public int getMazeVersion() {
+            return mazeVersion;
+        }
+
+        // Frame updates from the renderer thread, which marks the dirty cells itself
+        void applyCell(int row, int col, GameBoard.Cell cell) {
+            if ((data[row][col] == GameBoard.Cell.WALL) != (cell == GameBoard.Cell.WALL)) {
+                mazeVersion++;
+            }
+            data[row][col] = cell;
+        }
+
         public GameBoard.Cell getCell(int row, int col) {
             return data[row][col];
         }
@@ -402,63 +615,148 @@ public class GameView extends JFrame {
         return gameBoard;
     }
 
+    public GameCanvas getGameCanvas() {
+        return gameCanvas;
+    }
+
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
     public GameBoardModel getBoardModel() {
         return boardModel;
     }
 
-    public void updateScore(int score) {
-        scoreLabel.setText("Score: " + score);
+    // Status bar updates can come from any thread. Only the latest snapshot is kept and at most
+    // one EDT task is queued for it, however many ticks publish before it runs.
+    public void publishHud(HudSnapshot hud) {
+        if (pendingHud.getAndSet(hud) == null) {
+            SwingUtilities.invokeLater(applyHudTask);
+        }
+    }
+
+    // Runs on the EDT; labels are only touched when their value differs from what is shown
+    private void applyHud() {
+        HudSnapshot hud = pendingHud.getAndSet(null);
+        if (hud == null) return;
+        HudSnapshot shown = shownHud;
+        if (shown == null || shown.getScore() != hud.getScore()) {
+            scoreLabel.setText("Score: " + hud.getScore());
+        }
+        if (shown == null || shown.getLives() != hud.getLives()) {
+            livesLabel.setText("Lives: " + hud.getLives());
+        }
+        if (shown == null || shown.getTimeSeconds() != hud.getTimeSeconds()) {
+            timeLabel.setText("Time: " + hud.getTimeSeconds());
+        }
+        if (shown == null || shown.getLevel() != hud.getLevel()) {
+            levelLabel.setText("Level: " + hud.getLevel());
+        }
+        if (shown == null || shown.getPowerUpSeconds() != hud.getPowerUpSeconds() || shown.isPowerUpWarning() != hud.isPowerUpWarning()) {
+            if (hud.getPowerUpSeconds() > 0) {
+                powerUpLabel.setText("Power-Up: " + hud.getPowerUpSeconds() + "s");
+                powerUpLabel.setForeground(hud.isPowerUpWarning() ? Color.RED : Color.YELLOW);
+            } else {
+                powerUpLabel.setText("");
+            }
+        }
+        if (shown == null || shown.getActivePowerUps() != hud.getActivePowerUps() || shown.isInvincible() != hud.isInvincible()) {
+            activePowerUpsLabel.setText(activePowerUpsText(hud));
+        }
+        shownHud = hud;
     }
 
-    public void updateLives(int lives) {
-        livesLabel.setText("Lives: " + lives);
+    // EDT only: a short message about something that just happened, or null to clear it
+    public void showNotice(String notice) {
+        noticeLabel.setText(notice != null ? notice : "");
     }
 
-    public void updateTime(long time) {
-        timeLabel.setText("Time: " + time);
+    private static String activePowerUpsText(HudSnapshot hud) {
+        StringBuilder text = new StringBuilder();
+        for (PowerUp.PowerUpType type : PowerUp.PowerUpType.values()) {
+            if ((hud.getActivePowerUps() & HudSnapshot.powerUpBit(type)) != 0) {
+                text.append(text.length() == 0 ? "Active: " : ", ").append(type.name().replace('_', ' ').toLowerCase());
+            }
+        }
+        if (hud.isInvincible()) {
+            text.append(text.length() == 0 ? "Active: " : ", ").append("invincibility");
+        }
+        return text.toString();
     }
 
-    public void updateLevel(int level) {
-        levelLabel.setText("Level: " + level);
+    // The game loop fills frames.beginFrame() once per tick and hands it over with publishFrame()
+    public FrameChannel getFrameChannel() {
+        return frames;
     }
 
-    public void updatePowerUpStatus(boolean active, int remainingTime) {
-        if (active) {
-            powerUpLabel.setText("Power-Up: " + remainingTime + "s");
-            powerUpLabel.setForeground(Color.YELLOW);
-        } else {
-            powerUpLabel.setText("");
-        }
+    public void publishFrame() {
+        frames.publish();
+        requestFlush();
     }
 
-    public void updatePowerUpStatus(boolean active, int remainingTime, boolean isWarning) {
-        if (active) {
-            powerUpLabel.setText("Power-Up: " + remainingTime + "s");
-            powerUpLabel.setForeground(isWarning ? Color.RED : Color.YELLOW);
-        } else {
-            powerUpLabel.setText("");
+    // Takes the latest frame from the game loop, if there is one, and marks every cell whose look
+    // changed: where entities were and are now, changed board cells and animated sprites.
+    // Only called by the thread that renders, right before it paints.
+    void acquireFrame() {
+        boolean newFrame = frames.hasNewFrame();
+        int generation = animGeneration;
+        if (!newFrame && generation == shownAnimGeneration) return;
+        shownAnimGeneration = generation;
+        // The old frame may be overwritten once the new one is acquired, so finish with it first
+        FrameSnapshot old = frames.current();
+        markFrameEntities(old);
+        if (!newFrame) return;
+        indexFrame(old, false);
+
+        FrameSnapshot frame = frames.acquire();
+        if (frame.board != null && frame.board != shownBoard) {
+            shownBoard = frame.board;
+            boardModel.setBoard(frame.board);
         }
+        int cols = boardModel.getColumnCount();
+        for (int i = 0; i < frame.changedCount; i++) {
+            int cell = frame.changedCells[i];
+            boardModel.applyCell(cell / cols, cell % cols, frame.changedValues[i]);
+            dirtyRegions.markCell(cell / cols, cell % cols);
+        }
+        indexFrame(frame, true);
+        markFrameEntities(frame);
     }
 
-    public void setPacman(Pacman pacman) {
-        this.pacman = pacman;
+    // Adds or removes a frame's ghosts and power-ups in the per-cell index. Slots are walked
+    // backwards so the lowest ghost slot and the oldest power-up end up on top, as drawn before.
+    private void indexFrame(FrameSnapshot frame, boolean add) {
+        for (int slot = frame.ghostCount - 1; slot >= 0; slot--) {
+            if (!onBoard(frame.ghostX[slot], frame.ghostY[slot])) continue;
+            ghostAtCell[frame.ghostY[slot] * boardModel.getColumnCount() + frame.ghostX[slot]] = add ? slot : -1;
+        }
+        for (int i = frame.powerUpCount - 1; i >= 0; i--) {
+            if (!onBoard(frame.powerUpX[i], frame.powerUpY[i])) continue;
+            powerUpAtCell[frame.powerUpY[i] * boardModel.getColumnCount() + frame.powerUpX[i]] = add ? frame.powerUpType[i] : null;
+        }
     }
 
-    public void setGhosts(Ghost[] ghosts) {
-        this.ghosts = ghosts;
+    private void markFrameEntities(FrameSnapshot frame) {
+        if (frame.hasPacman) dirtyRegions.markCell(frame.pacmanY, frame.pacmanX);
+        for (int slot = 0; slot < frame.ghostCount; slot++) {
+            dirtyRegions.markCell(frame.ghostY[slot], frame.ghostX[slot]);
+        }
+        for (int i = 0; i < frame.powerUpCount; i++) {
+            dirtyRegions.markCell(frame.powerUpY[i], frame.powerUpX[i]);
+        }
+        if (frame.fruitType != null) dirtyRegions.markCell(frame.fruitY, frame.fruitX);
     }
 
-    public void setPacmanAnim(int frame, Pacman.Direction direction, boolean isMoving) {
-        this.pacmanAnimFrame = frame;
-        this.pacmanAnimDirection = direction;
-        this.pacmanIsMoving = isMoving;
+    private boolean onBoard(int x, int y) {
+        return x >= 0 && y >= 0 && x < boardModel.getColumnCount() && y < boardModel.getRowCount();
     }
 
     private void startPacmanAnimThread() {
-        if (pacmanAnimThread != null && pacmanAnimThread.isAlive()) return;
+        if (paused || (animRunning && pacmanAnimThread != null && pacmanAnimThread.isAlive())) return;
         animRunning = true;
         pacmanAnimThread = new Thread(() -> {
-            while (animRunning) {
+            // A stopped thread still finishing its sleep must not carry on next to its replacement
+            while (animRunning && Thread.currentThread() == pacmanAnimThread) {
                 try {
                     Thread.sleep(120); // Animation speed
                 } catch (InterruptedException e) {
@@ -466,7 +764,9 @@ public class GameView extends JFrame {
                 }
                 pacmanAnimFrame = (pacmanAnimFrame + 1) % 2;
                 ghostAnimFrame = (ghostAnimFrame + 1) % 2;
-                repaint();
+                // Only the animated entities changed; the renderer marks their cells
+                animGeneration++;
+                requestFlush();
             }
         });
         pacmanAnimThread.start();
@@ -481,7 +781,7 @@ public class GameView extends JFrame {
 
     // Play Pacman death animation at (x, y), then run callback when done
     public void playPacmanDeathAnimation(int x, int y, Runnable onFinish) {
-        new Thread(() -> {
+        Thread deathThread = new Thread(() -> {
             synchronized (deathAnimLock) {
                 pacmanDeathActive = true;
                 pacmanDeathX = x;
@@ -490,38 +790,67 @@ public class GameView extends JFrame {
                 boolean wasAnimRunning = animRunning;
                 animRunning = false;
                 if (pacmanAnimThread != null) pacmanAnimThread.interrupt();
-                for (int i = 0; i < pacmanDeathFrames.length; i++) {
+                for (int i = 0; i < PACMAN_DEATH_STEPS; i++) {
                     pacmanDeathFrameIdx = i;
-                    repaint();
+                    dirtyRegions.markCell(y, x);
+                    flushDirtyRegions();
                     try { Thread.sleep(100); } catch (InterruptedException e) { break; }
+                    while (paused && !Thread.currentThread().isInterrupted()) {
+                        java.util.concurrent.locks.LockSupport.park(this);
+                    }
+                    if (Thread.currentThread().isInterrupted()) break;
                 }
                 pacmanDeathActive = false;
                 pacmanDeathFrameIdx = 0;
-                repaint();
+                dirtyRegions.markCell(y, x);
+                flushDirtyRegions();
                 // Resume Pacman animation thread if it was running
                 if (wasAnimRunning) startPacmanAnimThread();
             }
+            pacmanDeathThread = null;
             if (onFinish != null) {
                 javax.swing.SwingUtilities.invokeLater(onFinish);
             }
-        }).start();
-    }
-
-    public void setPowerUps(List<PowerUp> powerUps) {
-        this.powerUps = powerUps;
-        gameBoard.repaint();
+        });
+        pacmanDeathThread = deathThread;
+        deathThread.start();
     }
 
-    public List<PowerUp> getPowerUps() {
-        return powerUps;
+    // Repaints the marked cells. The canvas picks them up on its next frame; the JTable
+    // paints each cell rectangle on the EDT, since RepaintManager would otherwise merge
+    // far-apart cells into one large bounding rectangle.
+    private void flushDirtyRegions() {
+        if (!dirtyRegions.isEmpty()) requestFlush();
     }
 
-    public void updateActivePowerUpsLabel(String text) {
-        activePowerUpsLabel.setText(text);
+    // The canvas polls for frames and dirty cells on its own; the table needs an EDT task
+    private void requestFlush() {
+        if (gameBoard != null && flushPending.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(flushTask);
+        }
     }
 
-    public void setFruit(Fruit fruit) {
-        this.currentFruit = fruit;
-        gameBoard.repaint();
+    private void paintDirtyRegions() {
+        flushPending.set(false);
+        acquireFrame();
+        int count = dirtyRegions.drain();
+        if (count == DirtyRegionTracker.ALL) {
+            gameBoard.repaint();
+            return;
+        }
+        int[] cells = dirtyRegions.getDrained();
+        int cols = dirtyRegions.getCols();
+        long start = System.nanoTime();
+        flushingDirtyRegions = true;
+        try {
+            for (int i = 0; i < count; i++) {
+                gameBoard.paintImmediately(gameBoard.getCellRect(cells[i] / cols, cells[i] % cols, true));
+            }
+        } finally {
+            flushingDirtyRegions = false;
+        }
+        if (count > 0) {
+            frameStats.recordPaint(System.nanoTime() - start);
+        }
     }
-} 
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package views;
 
+import util.Log;
+
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.JTableHeader;
@@ -9,7 +11,6 @@ import java.awt.event.ActionEvent;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import javax.imageio.ImageIO;
 import javax.swing.KeyStroke;
 import java.io.*;
 import java.util.Collections;
@@ -49,11 +50,7 @@ public class HighScoresView extends JFrame {
         setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
         setLayout(new BorderLayout());
 
-        try {
-            backgroundImage = ImageIO.read(new File("assets/wall.png"));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        backgroundImage = SpriteAtlas.getInstance().wall();
 
         JPanel mainPanel = new JPanel(new BorderLayout()) {
             @Override
@@ -178,9 +175,7 @@ public class HighScoresView extends JFrame {
 
         loadHighScoresFromFile();
 
-        try {
-            setIconImage(javax.imageio.ImageIO.read(new java.io.File("assets/favicon.png")));
-        } catch (Exception e) { e.printStackTrace(); }
+        setIconImage(SpriteAtlas.getInstance().favicon());
     }
 
     public void addScore(int rank, String player, int score, int level, String date) {
@@ -212,7 +207,7 @@ public class HighScoresView extends JFrame {
         try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(HIGHSCORES_FILE))) {
             oos.writeObject(highScoreList);
         } catch (IOException e) {
-            e.printStackTrace();
+            Log.error("Could not save the high scores", e);
         }
     }
 
@@ -226,7 +221,7 @@ public class HighScoresView extends JFrame {
                 updateTableModel();
             }
         } catch (IOException | ClassNotFoundException e) {
-            e.printStackTrace();
+            Log.error("Could not load the high scores", e);
         }
     }
 
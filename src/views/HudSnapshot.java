@@ -0,0 +1,49 @@
+package views;
+
+import models.PowerUp;
+
+// Immutable copy of everything the status bar shows, built by the game loop once per tick
+// and handed to the EDT. activePowerUps is a bit set of PowerUpType ordinals.
+public final class HudSnapshot {
+    private final int score;
+    private final int lives;
+    private final long timeSeconds;
+    private final int level;
+    private final int powerUpSeconds; // 0 when no timed power-up is running
+    private final boolean powerUpWarning;
+    private final int activePowerUps;
+    private final boolean invincible;
+
+    public HudSnapshot(int score, int lives, long timeSeconds, int level, int powerUpSeconds,
+                       boolean powerUpWarning, int activePowerUps, boolean invincible) {
+        this.score = score;
+        this.lives = lives;
+        this.timeSeconds = timeSeconds;
+        this.level = level;
+        this.powerUpSeconds = powerUpSeconds;
+        this.powerUpWarning = powerUpWarning;
+        this.activePowerUps = activePowerUps;
+        this.invincible = invincible;
+    }
+
+    // Lets the game loop skip building a new snapshot when nothing changed
+    public boolean matches(int score, int lives, long timeSeconds, int level, int powerUpSeconds,
+                           boolean powerUpWarning, int activePowerUps, boolean invincible) {
+        return this.score == score && this.lives == lives && this.timeSeconds == timeSeconds
+            && this.level == level && this.powerUpSeconds == powerUpSeconds && this.powerUpWarning == powerUpWarning
+            && this.activePowerUps == activePowerUps && this.invincible == invincible;
+    }
+
+    public static int powerUpBit(PowerUp.PowerUpType type) {
+        return 1 << type.ordinal();
+    }
+
+    public int getScore() { return score; }
+    public int getLives() { return lives; }
+    public long getTimeSeconds() { return timeSeconds; }
+    public int getLevel() { return level; }
+    public int getPowerUpSeconds() { return powerUpSeconds; }
+    public boolean isPowerUpWarning() { return powerUpWarning; }
+    public int getActivePowerUps() { return activePowerUps; }
+    public boolean isInvincible() { return invincible; }
+}
@@ -3,9 +3,6 @@ package views;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.File;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 
 public class MainMenuView extends JFrame {
     private JButton newGameButton;
@@ -19,13 +16,10 @@ public class MainMenuView extends JFrame {
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLayout(new BorderLayout());
         
-        try {
-            backgroundImage = ImageIO.read(new File("assets/wall.png"));
-            pacmanImage = ImageIO.read(new File("assets/pacman/pacmandefault.png"));
-            setIconImage(ImageIO.read(new File("assets/favicon.png")));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        SpriteAtlas sprites = SpriteAtlas.getInstance();
+        backgroundImage = sprites.wall();
+        pacmanImage = sprites.pacmanIdle();
+        setIconImage(sprites.favicon());
 
         JPanel mainPanel = new JPanel() {
             @Override
@@ -0,0 +1,246 @@
+package views;
+
+import models.Fruit;
+import models.Ghost;
+import models.Pacman;
+import models.PowerUp;
+import util.Log;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+// All game sprites, decoded once and in parallel at startup and packed into a single atlas image.
+// Sprites are looked up by index, (entity, color, direction, frame), so painting never touches the disk.
+// Images are read from the assets/ directory, or from the classpath when running from a jar.
+public final class SpriteAtlas {
+    // Direction index order used by every directional sprite: right, left, up, down
+    private static final String[] DIRS = {"right", "left", "up", "down"};
+    private static final String[] GHOST_COLORS = {"redghost", "pinkghost", "blueghost", "orangeghost"};
+    private static final String[] POWER_UP_FILES = {"speed", "scare", "life", "score", "freeze", "shield"}; // PowerUpType order
+    private static final String[] FRUIT_FILES = {"cherry", "strawberry", "apple", "peach"}; // FruitType order
+
+    public static final int PACMAN_DEATH_FRAMES = 12; // start + frame1..frame11
+    private static final int ATLAS_MAX_WIDTH = 1024;
+
+    // Sprite index layout
+    private static final int PACMAN_IDLE = 0;
+    private static final int PACMAN_BASE = PACMAN_IDLE + 1;                       // [direction][frame]
+    private static final int GHOST_BASE = PACMAN_BASE + 4 * 2;                    // [color][direction][frame]
+    private static final int GHOST_EYES_BASE = GHOST_BASE + 4 * 4 * 2;            // [direction]
+    private static final int GHOST_SCARED_BASE = GHOST_EYES_BASE + 4;             // [frame]
+    private static final int PACMAN_DEATH_BASE = GHOST_SCARED_BASE + 2;           // [frame]
+    private static final int DOT = PACMAN_DEATH_BASE + PACMAN_DEATH_FRAMES;
+    private static final int POWER_DOT = DOT + 1;
+    private static final int WALL = POWER_DOT + 1;
+    private static final int POWER_UP_BASE = WALL + 1;                            // [type]
+    private static final int FRUIT_BASE = POWER_UP_BASE + POWER_UP_FILES.length;  // [type]
+    private static final int FAVICON = FRUIT_BASE + FRUIT_FILES.length;
+    private static final int SPRITE_COUNT = FAVICON + 1;
+
+    private static final Object LOCK = new Object();
+    private static FutureTask<SpriteAtlas> loading;
+
+    private final BufferedImage atlas;
+    private final BufferedImage[] sprites;
+
+    private SpriteAtlas(BufferedImage atlas, BufferedImage[] sprites) {
+        this.atlas = atlas;
+        this.sprites = sprites;
+    }
+
+    // Starts decoding the sprites in the background; safe to call more than once
+    public static void preload() {
+        synchronized (LOCK) {
+            if (loading != null) return;
+            loading = new FutureTask<>(SpriteAtlas::load);
+            Thread loader = new Thread(loading, "SpriteAtlas-loader");
+            loader.setDaemon(true);
+            loader.start();
+        }
+    }
+
+    // Returns the atlas, waiting for the preload to finish if needed
+    public static SpriteAtlas getInstance() {
+        preload();
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return loading.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not load sprites", e.getCause());
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    private static SpriteAtlas load() throws InterruptedException {
+        String[] paths = spritePaths();
+        int threads = Math.max(1, Math.min(paths.length, Runtime.getRuntime().availableProcessors()));
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "SpriteAtlas-decoder");
+            t.setDaemon(true);
+            return t;
+        });
+        BufferedImage[] decoded = new BufferedImage[paths.length];
+        try {
+            List<Future<BufferedImage>> futures = new ArrayList<>();
+            for (String path : paths) {
+                futures.add(pool.submit(() -> readImage(path)));
+            }
+            for (int i = 0; i < paths.length; i++) {
+                try {
+                    decoded[i] = futures.get(i).get();
+                } catch (ExecutionException e) {
+                    // Same policy as before: report the broken asset and draw nothing for it
+                    Log.error("Could not load sprite " + paths[i], e.getCause());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        return pack(decoded);
+    }
+
+    private static BufferedImage readImage(String path) throws IOException {
+        File file = new File(path);
+        if (file.isFile()) {
+            return ImageIO.read(file);
+        }
+        URL resource = SpriteAtlas.class.getResource("/" + path);
+        if (resource == null) {
+            throw new IOException("Missing asset: " + path);
+        }
+        try (InputStream in = resource.openStream()) {
+            return ImageIO.read(in);
+        }
+    }
+
+    // Shelf-packs the decoded images into one atlas; sprites become sub-images sharing its raster
+    private static SpriteAtlas pack(BufferedImage[] decoded) {
+        int[] xs = new int[decoded.length];
+        int[] ys = new int[decoded.length];
+        int x = 0, y = 0, shelfHeight = 0, atlasWidth = 1;
+        for (int i = 0; i < decoded.length; i++) {
+            if (decoded[i] == null) continue;
+            int w = decoded[i].getWidth(), h = decoded[i].getHeight();
+            if (x > 0 && x + w > ATLAS_MAX_WIDTH) {
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+            xs[i] = x;
+            ys[i] = y;
+            x += w;
+            shelfHeight = Math.max(shelfHeight, h);
+            atlasWidth = Math.max(atlasWidth, x);
+        }
+        int atlasHeight = Math.max(1, y + shelfHeight);
+
+        BufferedImage atlas = new BufferedImage(atlasWidth, atlasHeight, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage[] sprites = new BufferedImage[decoded.length];
+        Graphics2D g2d = atlas.createGraphics();
+        for (int i = 0; i < decoded.length; i++) {
+            if (decoded[i] == null) continue;
+            g2d.drawImage(decoded[i], xs[i], ys[i], null);
+            sprites[i] = atlas.getSubimage(xs[i], ys[i], decoded[i].getWidth(), decoded[i].getHeight());
+        }
+        g2d.dispose();
+        return new SpriteAtlas(atlas, sprites);
+    }
+
+    private static String[] spritePaths() {
+        String[] paths = new String[SPRITE_COUNT];
+        paths[PACMAN_IDLE] = "assets/pacman/pacmandefault.png";
+        for (int d = 0; d < 4; d++) {
+            for (int f = 0; f < 2; f++) {
+                paths[PACMAN_BASE + d * 2 + f] = "assets/pacman/" + DIRS[d] + "/frame" + (f + 1) + ".png";
+                for (int c = 0; c < 4; c++) {
+                    paths[GHOST_BASE + (c * 4 + d) * 2 + f] = "assets/ghosts/" + GHOST_COLORS[c] + "/" + DIRS[d] + "/frame" + (f + 1) + ".png";
+                }
+            }
+            paths[GHOST_EYES_BASE + d] = "assets/ghosts/eyes/" + DIRS[d] + "/frame1.png";
+        }
+        for (int f = 0; f < 2; f++) {
+            paths[GHOST_SCARED_BASE + f] = "assets/ghosts/scared/frame" + (f + 1) + ".png";
+        }
+        paths[PACMAN_DEATH_BASE] = "assets/pacman/death/start.png";
+        for (int i = 1; i < PACMAN_DEATH_FRAMES; i++) {
+            paths[PACMAN_DEATH_BASE + i] = "assets/pacman/death/frame" + i + ".png";
+        }
+        paths[DOT] = "assets/food.png";
+        paths[POWER_DOT] = "assets/powerFood.png";
+        paths[WALL] = "assets/wall.png";
+        for (int i = 0; i < POWER_UP_FILES.length; i++) {
+            paths[POWER_UP_BASE + i] = "assets/powerups/" + POWER_UP_FILES[i] + ".png";
+        }
+        for (int i = 0; i < FRUIT_FILES.length; i++) {
+            paths[FRUIT_BASE + i] = "assets/fruits/" + FRUIT_FILES[i] + ".png";
+        }
+        paths[FAVICON] = "assets/favicon.png";
+        return paths;
+    }
+
+    // Index helpers
+    public static int directionIndex(Pacman.Direction direction) {
+        switch (direction) {
+            case LEFT: return 1;
+            case UP: return 2;
+            case DOWN: return 3;
+            default: return 0;
+        }
+    }
+
+    public static int directionIndex(Ghost.Direction direction) {
+        switch (direction) {
+            case LEFT: return 1;
+            case UP: return 2;
+            case DOWN: return 3;
+            default: return 0;
+        }
+    }
+
+    public static int colorIndex(Ghost.GhostType type) {
+        switch (type) {
+            case PINK: return 1;
+            case BLUE: return 2;
+            case ORANGE: return 3;
+            default: return 0;
+        }
+    }
+
+    // Lookups
+    public BufferedImage getAtlasImage() { return atlas; }
+    public BufferedImage pacmanIdle() { return sprites[PACMAN_IDLE]; }
+    public BufferedImage pacman(int direction, int frame) { return sprites[PACMAN_BASE + direction * 2 + (frame & 1)]; }
+    public BufferedImage ghost(int color, int direction, int frame) { return sprites[GHOST_BASE + (color * 4 + direction) * 2 + (frame & 1)]; }
+    public BufferedImage ghostEyes(int direction) { return sprites[GHOST_EYES_BASE + direction]; }
+    public BufferedImage scaredGhost(int frame) { return sprites[GHOST_SCARED_BASE + (frame & 1)]; }
+    public BufferedImage dot() { return sprites[DOT]; }
+    public BufferedImage powerDot() { return sprites[POWER_DOT]; }
+    public BufferedImage wall() { return sprites[WALL]; }
+    public BufferedImage powerUp(PowerUp.PowerUpType type) { return sprites[POWER_UP_BASE + type.ordinal()]; }
+    public BufferedImage fruit(Fruit.FruitType type) { return sprites[FRUIT_BASE + type.ordinal()]; }
+    public BufferedImage favicon() { return sprites[FAVICON]; }
+
+    // Frames past the last death sprite are blank
+    public BufferedImage pacmanDeath(int frame) {
+        return frame >= 0 && frame < PACMAN_DEATH_FRAMES ? sprites[PACMAN_DEATH_BASE + frame] : null;
+    }
+}
@@ -0,0 +1,65 @@
+package views;
+
+import javax.swing.ImageIcon;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.util.IdentityHashMap;
+
+// Caches nearest-neighbor scaled copies of sprites keyed by (source sprite, width, height)
+// so repainting a cell reuses the same icon instead of rescaling the sprite every time.
+public class SpriteCache {
+    private final IdentityHashMap<BufferedImage, Entry> entries = new IdentityHashMap<>();
+
+    // One scaled variant of a sprite; variants of the same sprite are chained
+    private static class Entry {
+        final int width;
+        final int height;
+        final BufferedImage image;
+        final ImageIcon icon;
+        final Entry next;
+
+        Entry(int width, int height, BufferedImage image, Entry next) {
+            this.width = width;
+            this.height = height;
+            this.image = image;
+            this.icon = new ImageIcon(image);
+            this.next = next;
+        }
+    }
+
+    public ImageIcon getIcon(BufferedImage sprite, int width, int height) {
+        Entry entry = lookup(sprite, width, height);
+        return entry != null ? entry.icon : null;
+    }
+
+    public BufferedImage getImage(BufferedImage sprite, int width, int height) {
+        Entry entry = lookup(sprite, width, height);
+        return entry != null ? entry.image : null;
+    }
+
+    // Drops every scaled variant, e.g. when the cell size changes
+    public void clear() {
+        entries.clear();
+    }
+
+    private Entry lookup(BufferedImage sprite, int width, int height) {
+        if (sprite == null || width <= 0 || height <= 0) return null;
+        Entry head = entries.get(sprite);
+        for (Entry e = head; e != null; e = e.next) {
+            if (e.width == width && e.height == height) return e;
+        }
+        Entry created = new Entry(width, height, scale(sprite, width, height), head);
+        entries.put(sprite, created);
+        return created;
+    }
+
+    private static BufferedImage scale(BufferedImage sprite, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = scaled.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2d.drawImage(sprite, 0, 0, width, height, null);
+        g2d.dispose();
+        return scaled;
+    }
+}